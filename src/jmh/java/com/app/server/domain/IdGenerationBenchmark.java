@@ -0,0 +1,112 @@
+package com.app.server.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 INSERT 처리량: IDENTITY(변경 전) vs 풀링 시퀀스 + JDBC 배치(변경 후)
+ * Hibernate 가 각 방식에서 실행하는 JDBC 호출을 그대로 재현한다.
+ * - identityPerRow: 행마다 즉시 INSERT 후 생성 키 조회 (IDENTITY 는 배치 불가)
+ * - pooledSequenceBatch: 시퀀스 한 번에 ID 50개 확보, batch_size 50 으로 묶어 전송
+ *
+ * 기본은 H2 인메모리, 로컬 PostgreSQL 은 URL 파라미터로 지정
+ *   ./gradlew jmh -Pjmh.includes=IdGenerationBenchmark
+ *   (PostgreSQL: jmh { benchmarkParameters = [url: ['jdbc:postgresql://localhost:5432/bench?user=bench&password=bench&reWriteBatchedInserts=true']] })
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGenerationBenchmark {
+
+    private static final int ROWS_PER_OPERATION = 1000;
+
+    @Param({"jdbc:h2:mem:id-bench;DB_CLOSE_DELAY=-1"})
+    public String url;
+
+    private Connection connection;
+    private PreparedStatement identityInsert;
+    private PreparedStatement sequenceInsert;
+    private PreparedStatement nextSequenceValue;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS id_bench_identity");
+            statement.execute("DROP TABLE IF EXISTS id_bench_sequence");
+            statement.execute("DROP SEQUENCE IF EXISTS id_bench_seq");
+            statement.execute("CREATE TABLE id_bench_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "item_code VARCHAR(255) NOT NULL, quantity INTEGER NOT NULL)");
+            statement.execute("CREATE TABLE id_bench_sequence (id BIGINT PRIMARY KEY, " +
+                    "item_code VARCHAR(255) NOT NULL, quantity INTEGER NOT NULL)");
+            statement.execute("CREATE SEQUENCE id_bench_seq INCREMENT BY " + IdGeneration.ALLOCATION_SIZE);
+        }
+        connection.commit();
+
+        identityInsert = connection.prepareStatement(
+                "INSERT INTO id_bench_identity (item_code, quantity) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS);
+        sequenceInsert = connection.prepareStatement(
+                "INSERT INTO id_bench_sequence (id, item_code, quantity) VALUES (?, ?, ?)");
+        nextSequenceValue = connection.prepareStatement(url.startsWith("jdbc:postgresql:")
+                ? "SELECT nextval('id_bench_seq')"
+                : "SELECT NEXT VALUE FOR id_bench_seq");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_OPERATION)
+    public long identityPerRow() throws SQLException {
+        long lastId = 0;
+        for (int i = 0; i < ROWS_PER_OPERATION; i++) {
+            identityInsert.setString(1, "SKU-" + sequence++);
+            identityInsert.setInt(2, i);
+            identityInsert.executeUpdate();
+            try (ResultSet keys = identityInsert.getGeneratedKeys()) {
+                keys.next();
+                lastId = keys.getLong(1);
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_OPERATION)
+    public long pooledSequenceBatch() throws SQLException {
+        long nextId = 0;
+        long blockEnd = -1;
+        for (int i = 0; i < ROWS_PER_OPERATION; i++) {
+            // pooled 최적화: nextval 값이 확보 구간의 끝 (hi - 50 + 1 .. hi)
+            if (nextId > blockEnd) {
+                try (ResultSet resultSet = nextSequenceValue.executeQuery()) {
+                    resultSet.next();
+                    blockEnd = resultSet.getLong(1);
+                }
+                nextId = blockEnd - IdGeneration.ALLOCATION_SIZE + 1;
+            }
+            sequenceInsert.setLong(1, nextId++);
+            sequenceInsert.setString(2, "SKU-" + sequence++);
+            sequenceInsert.setInt(3, i);
+            sequenceInsert.addBatch();
+            if ((i + 1) % IdGeneration.ALLOCATION_SIZE == 0) {
+                sequenceInsert.executeBatch();
+            }
+        }
+        sequenceInsert.executeBatch();
+        connection.commit();
+        return nextId;
+    }
+}
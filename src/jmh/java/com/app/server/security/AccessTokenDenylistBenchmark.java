@@ -0,0 +1,52 @@
+package com.app.server.security;
+
+import com.app.server.repository.RevokedAccessTokenRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 무효화 목록 조회 비용 (-prof gc 로 할당 없음 확인)
+ * - notRevoked: 대부분의 요청, Bloom 필터에서 바로 false
+ * - revoked: 무효화된 토큰, Bloom 필터 양성 후 맵 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessTokenDenylistBenchmark {
+
+    private static final int REVOKED_TOKENS = 50_000;
+
+    private AccessTokenDenylist denylist;
+    private String activeJti;
+    private String revokedJti;
+
+    @Setup
+    public void setUp() {
+        // DB 저장은 아무것도 하지 않는 프록시로 대체하고 메모리 복제본만 채움
+        RevokedAccessTokenRepository repository = (RevokedAccessTokenRepository) Proxy.newProxyInstance(
+                RevokedAccessTokenRepository.class.getClassLoader(),
+                new Class<?>[]{RevokedAccessTokenRepository.class},
+                (proxy, method, args) -> null);
+        denylist = new AccessTokenDenylist(repository, 100_000, 0.0001);
+        Date expiration = new Date(System.currentTimeMillis() + 3_600_000);
+        for (int i = 0; i < REVOKED_TOKENS; i++) {
+            revokedJti = UUID.randomUUID().toString();
+            denylist.revoke(revokedJti, expiration);
+        }
+        activeJti = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return denylist.isRevoked(activeJti);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return denylist.isRevoked(revokedJti);
+    }
+}
@@ -0,0 +1,66 @@
+package com.app.server.security;
+
+import com.app.server.exception.ErrorTemplates;
+import com.app.server.exception.InvalidCredentialsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 응답 경로 비용 비교 (-prof gc 로 요청당 할당량 확인)
+ * - legacyUnauthorized: 변경 전 JwtAuthenticationEntryPoint (요청마다 ObjectMapper + HashMap)
+ * - preEncodedUnauthorized: 미리 인코딩된 템플릿에 path 만 삽입
+ * - exceptionWithStackTrace / stacklessBusinessException: 예외 생성 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseBenchmark {
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/inventory/12345");
+    }
+
+    @Benchmark
+    public int legacyUnauthorized() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(401);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Unauthorized");
+        errorResponse.put("message", "인증이 필요합니다. 유효한 JWT 토큰을 제공해주세요.");
+        errorResponse.put("status", 401);
+        errorResponse.put("path", request.getRequestURI());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        return response.getContentLength();
+    }
+
+    @Benchmark
+    public int preEncodedUnauthorized() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ErrorTemplates.UNAUTHORIZED.writeTo(response, request.getRequestURI());
+        return response.getContentLength();
+    }
+
+    @Benchmark
+    public Object exceptionWithStackTrace() {
+        return new RuntimeException("이메일 또는 비밀번호가 올바르지 않습니다.");
+    }
+
+    @Benchmark
+    public Object stacklessBusinessException() {
+        return new InvalidCredentialsException();
+    }
+}
@@ -0,0 +1,60 @@
+package com.app.server.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 처리 비용 비교
+ * - legacyPerRequest: 기존 필터 흐름 (키 재생성 + 파서 재생성 + 3회 파싱)
+ * - singleParsePerRequest: 캐시된 키/파서로 1회 파싱 후 클레임 전달
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET =
+            "dGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3RodGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3Ro";
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3600L);
+        userDetails = new User("bench@example.com", "", List.of());
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean legacyPerRequest() {
+        String username = legacyClaims().getSubject();
+        String usernameAgain = legacyClaims().getSubject();
+        Date expiration = legacyClaims().getExpiration();
+        return username != null && usernameAgain.equals(userDetails.getUsername()) && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParsePerRequest() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return claims.getSubject() != null && jwtUtil.validateToken(claims, userDetails);
+    }
+
+    // 변경 전 JwtUtil.getAllClaimsFromToken 과 동일한 처리
+    private Claims legacyClaims() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
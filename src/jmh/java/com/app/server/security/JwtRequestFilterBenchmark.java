@@ -0,0 +1,74 @@
+package com.app.server.security;
+
+import com.app.server.domain.User;
+import com.app.server.domain.UserRole;
+import com.app.server.security.CustomUserDetailsService.CustomUserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 액세스 토큰을 반복 사용하는 스캐너 트래픽에서 JwtRequestFilter 처리량
+ * claimsCache=true 이면 검증된 클레임 캐시를 사용 (서명 검증/디코딩 생략)
+ * anonymous 는 Authorization 헤더 없는 요청(헬스 체크, 공개 API) 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtRequestFilterBenchmark {
+
+    private static final String SECRET =
+            "dGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3RodGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3Ro";
+
+    @Param({"false", "true"})
+    public boolean claimsCache;
+
+    private JwtRequestFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("scanner@example.com");
+        user.setPassword("");
+        user.setRole(UserRole.USER);
+        CustomUserPrincipal principal = new CustomUserPrincipal(user);
+
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600L, claimsCache, 10_000, new SimpleMeterRegistry());
+        // DB 조회 비용을 제외하고 토큰 처리 비용만 측정
+        UserDetailsService userDetailsService = email -> principal;
+        filter = new JwtRequestFilter(userDetailsService, jwtUtil,
+                new SecurityVersionRegistry(null, Duration.ofSeconds(30), 10_000, Duration.ofMinutes(10)),
+                new AccessTokenDenylist(null, 100_000, 0.0001), new SimpleMeterRegistry(), false);
+
+        request = new MockHttpServletRequest("GET", "/inventory");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(principal));
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/items");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilterInternal(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object anonymous() throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilterInternal(anonymousRequest, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,53 @@
+package com.app.server.security;
+
+import com.app.server.domain.User;
+import com.app.server.domain.UserRole;
+import com.app.server.security.CustomUserDetailsService.CustomUserPrincipal;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JwtUtil 연산의 기준 처리량
+ * 회귀 비교 시 gc 프로파일러의 gc.alloc.rate.norm(연산당 할당 바이트)도 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET =
+            "dGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3RodGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3Ro";
+
+    private JwtUtil jwtUtil;
+    private CustomUserPrincipal principal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("bench@example.com");
+        user.setPassword("");
+        user.setRole(UserRole.USER);
+        principal = new CustomUserPrincipal(user);
+
+        jwtUtil = new JwtUtil(SECRET, 3600L);
+        token = jwtUtil.generateToken(principal);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(principal);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtUtil.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, principal);
+    }
+}
@@ -0,0 +1,72 @@
+package com.app.server.security;
+
+import com.app.server.exception.ServiceBusyException;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 폭주 중 일반 API 지연 비교 (SampleTime 결과의 p0.99 확인)
+ * - login: 코어 수보다 많은 스레드가 동시에 BCrypt 검증
+ * - api: 같은 시간 동안 JWT 인증만 하는 일반 요청
+ * bounded=false 는 요청 스레드에서 직접 BCrypt, true 는 BoundedPasswordEncoder (포화 시 즉시 거절)
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoginBurstBenchmark {
+
+    private static final String SECRET =
+            "dGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3RodGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3Ro";
+
+    @Param({"false", "true"})
+    public boolean bounded;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = bounded
+                ? new BoundedPasswordEncoder(10, 0, 16, Duration.ofSeconds(1))
+                : new BCryptPasswordEncoder(10);
+        encodedPassword = passwordEncoder.encode("password123");
+        jwtUtil = new JwtUtil(SECRET, 3600L);
+        token = jwtUtil.generateToken(new User("burst@example.com", "", List.of()));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (passwordEncoder instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Benchmark
+    @Group("burst")
+    @GroupThreads(16)
+    public boolean login() {
+        try {
+            return passwordEncoder.matches("password123", encodedPassword);
+        } catch (ServiceBusyException e) {
+            // 503 응답에 해당
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("burst")
+    @GroupThreads(2)
+    public String api() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return claims.getSubject();
+    }
+}
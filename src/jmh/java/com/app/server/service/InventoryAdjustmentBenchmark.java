@@ -0,0 +1,101 @@
+package com.app.server.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 SKU를 여러 스레드가 동시에 조정할 때 처리량 비교 (H2 인메모리, JDBC 직접 호출)
+ * - readModifyWrite: 기존 흐름 (SELECT 후 애플리케이션에서 계산하여 UPDATE, 갱신 손실 가능)
+ * - conditionalUpdate: InventoryRepository.adjustQuantity 와 같은 조건부 UPDATE 한 번
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class InventoryAdjustmentBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:inventory-bench;DB_CLOSE_DELAY=-1";
+    private static final long ITEM_ID = 1L;
+
+    private Connection schemaConnection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        schemaConnection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = schemaConnection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS inventory (" +
+                    "id BIGINT PRIMARY KEY, quantity INT NOT NULL, deleted BOOLEAN NOT NULL, updated_at TIMESTAMP NOT NULL)");
+            statement.execute("DELETE FROM inventory");
+            statement.execute("INSERT INTO inventory VALUES (" + ITEM_ID + ", 1000000, FALSE, CURRENT_TIMESTAMP)");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        schemaConnection.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        Connection connection;
+        PreparedStatement select;
+        PreparedStatement update;
+        PreparedStatement conditionalUpdate;
+
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            connection = DriverManager.getConnection(URL, "sa", "");
+            connection.setAutoCommit(false);
+            select = connection.prepareStatement("SELECT quantity FROM inventory WHERE id = ?");
+            update = connection.prepareStatement("UPDATE inventory SET quantity = ?, updated_at = ? WHERE id = ?");
+            conditionalUpdate = connection.prepareStatement("UPDATE inventory SET quantity = quantity + ?, updated_at = ? " +
+                    "WHERE id = ? AND deleted = FALSE AND quantity + ? >= 0");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int readModifyWrite(Session session) throws SQLException {
+        session.select.setLong(1, ITEM_ID);
+        int quantity;
+        try (ResultSet resultSet = session.select.executeQuery()) {
+            resultSet.next();
+            quantity = resultSet.getInt(1);
+        }
+        int newQuantity = quantity + 1;
+        if (newQuantity < 0) {
+            session.connection.rollback();
+            return 0;
+        }
+        session.update.setInt(1, newQuantity);
+        session.update.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+        session.update.setLong(3, ITEM_ID);
+        int updated = session.update.executeUpdate();
+        session.connection.commit();
+        return updated;
+    }
+
+    @Benchmark
+    public int conditionalUpdate(Session session) throws SQLException {
+        session.conditionalUpdate.setInt(1, 1);
+        session.conditionalUpdate.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+        session.conditionalUpdate.setLong(3, ITEM_ID);
+        session.conditionalUpdate.setInt(4, 1);
+        int updated = session.conditionalUpdate.executeUpdate();
+        session.connection.commit();
+        return updated;
+    }
+}
@@ -0,0 +1,80 @@
+package com.app.server.support;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 검색 색인 조회 시간과 메모리 사용량 (기본 1,000,000 SKU)
+ * - 메모리: substringCommon 결과에 보조 카운터 indexBytes(색인 추정치, 운영의 inventory.search.index.bytes 와 같은 값)로 표시
+ * - substringCommon: 많은 상품에 나오는 단어 (후보가 많아 검증 비용이 큼)
+ * - substringRare / codePrefix / shortPrefix: 일반적인 검색창 입력
+ *
+ * 실행 예: ./gradlew jmh -Pjmh.includes=TrigramIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TrigramIndexBenchmark {
+
+    private static final String[] ADJECTIVES = {"Hex", "Carriage", "Wing", "Flange", "Lock", "Socket", "Stainless", "Zinc",
+            "Galvanized", "Heavy", "Mini", "Long", "Coarse", "Fine", "Brass", "Nylon"};
+    private static final String[] NOUNS = {"Bolt", "Nut", "Washer", "Screw", "Anchor", "Rivet", "Pin", "Bracket",
+            "Hinge", "Clamp", "Spring", "Bearing", "Gasket", "Cable Tie", "Hook", "Spacer"};
+
+    @Param({"1000000"})
+    public int skus;
+
+    private TrigramIndex index;
+
+    /**
+     * 색인 크기를 JMH 결과에 함께 남기기 위한 보조 카운터 (시간으로 나누지 않는 EVENTS 형식)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long indexBytes;
+
+        @Setup(Level.Iteration)
+        public void record(TrigramIndexBenchmark benchmark) {
+            indexBytes = benchmark.index.estimatedBytes();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new TrigramIndex();
+        Random random = new Random(42);
+        for (int i = 0; i < skus; i++) {
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]
+                    + " M" + (3 + random.nextInt(20)) + "x" + (5 + random.nextInt(200));
+            String code = String.format("SKU-%07d", i);
+            String location = String.format("%c-%02d-%02d", (char) ('A' + random.nextInt(26)), random.nextInt(50), random.nextInt(20));
+            index.put(i, name, code, location);
+        }
+    }
+
+    @Benchmark
+    public List<Long> substringCommon(Footprint footprint) {
+        return index.search("bolt", 20);
+    }
+
+    @Benchmark
+    public List<Long> substringRare() {
+        return index.search("flange hinge m17x1", 20);
+    }
+
+    @Benchmark
+    public List<Long> codePrefix() {
+        return index.search("sku-00042", 20);
+    }
+
+    @Benchmark
+    public List<Long> shortPrefix() {
+        return index.search("he", 20);
+    }
+}
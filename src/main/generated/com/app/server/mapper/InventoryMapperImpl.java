@@ -23,6 +23,7 @@ public class InventoryMapperImpl implements InventoryMapper {
         String itemName = null;
         String itemCode = null;
         Integer quantity = null;
+        Integer reorderPoint = null;
         String location = null;
         String qrCode = null;
         LocalDateTime createdAt = null;
@@ -35,6 +36,7 @@ public class InventoryMapperImpl implements InventoryMapper {
         itemName = inventory.getItemName();
         itemCode = inventory.getItemCode();
         quantity = inventory.getQuantity();
+        reorderPoint = inventory.getReorderPoint();
         location = inventory.getLocation();
         qrCode = inventory.getQrCode();
         createdAt = inventory.getCreatedAt();
@@ -43,7 +45,7 @@ public class InventoryMapperImpl implements InventoryMapper {
         updatedBy = inventory.getUpdatedBy();
         deleted = inventory.isDeleted();
 
-        Inventory.Response response = new Inventory.Response( id, itemName, itemCode, quantity, location, qrCode, createdAt, updatedAt, createdBy, updatedBy, deleted );
+        Inventory.Response response = new Inventory.Response( id, itemName, itemCode, quantity, reorderPoint, location, qrCode, createdAt, updatedAt, createdBy, updatedBy, deleted );
 
         return response;
     }
@@ -61,6 +63,9 @@ public class InventoryMapperImpl implements InventoryMapper {
         inventory.setQuantity( request.quantity() );
         inventory.setLocation( request.location() );
         inventory.setQrCode( request.qrCode() );
+        if ( request.reorderPoint() != null ) {
+            inventory.setReorderPoint( request.reorderPoint() );
+        }
 
         return inventory;
     }
@@ -74,5 +79,8 @@ public class InventoryMapperImpl implements InventoryMapper {
         inventory.setItemName( request.itemName() );
         inventory.setQuantity( request.quantity() );
         inventory.setLocation( request.location() );
+        if ( request.reorderPoint() != null ) {
+            inventory.setReorderPoint( request.reorderPoint() );
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.app.server.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * OSIV(요청 동안 EntityManager 유지) 적용 경로 설정
+ *
+ * Spring Boot 기본 설정은 모든 요청에 EntityManager 를 열지만, QR 스캔 API 는 캐시된 DTO 만 반환하므로 제외한다.
+ * 이 인터셉터 빈이 있으면 Boot 의 기본 OSIV 등록은 생략된다. spring.jpa.open-in-view=false 이면 둘 다 사용하지 않음.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    // 캐시 미스 시 조회는 InventoryQrCodeCache 의 읽기 전용 트랜잭션 안에서만 EntityManager 를 사용
+    private static final String[] EXCLUDED_PATHS = {"/inventory/scan"};
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(EXCLUDED_PATHS);
+    }
+}
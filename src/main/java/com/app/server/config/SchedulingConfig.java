@@ -0,0 +1,10 @@
+package com.app.server.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // 백그라운드 정리 작업(@Scheduled) 활성화 - 작업 목록은 com.app.server.scheduler 참고
+}
@@ -1,42 +1,77 @@
 package com.app.server.controller;
 
 import com.app.server.domain.*;
+import com.app.server.exception.ResourceNotFoundException;
 import com.app.server.mapper.InventoryMapper;
 import com.app.server.mapper.LogMapper;
 import com.app.server.mapper.OrderMapper;
 import com.app.server.mapper.UserMapper;
+import com.app.server.service.InventoryAdjustmentAggregator;
+import com.app.server.service.InventoryImportService;
+import com.app.server.service.InventoryQrCodeCache;
 import com.app.server.service.InventoryService;
+import com.app.server.service.InventoryStatsService;
 import com.app.server.service.LogService;
 import com.app.server.service.OrderService;
 import com.app.server.service.UserService;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
 @Tag(name = "WMS API", description = "gook41 창고 관리 시스템 API")
 public class ApiController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final UserService userService;
     private final InventoryService inventoryService;
     private final OrderService orderService;
     private final LogService logService;
+    private final InventoryAdjustmentAggregator inventoryAdjustmentAggregator;
+    private final InventoryImportService inventoryImportService;
+    private final InventoryStatsService inventoryStatsService;
+    private final InventoryQrCodeCache inventoryQrCodeCache;
     
     private final UserMapper userMapper;
     private final InventoryMapper inventoryMapper;
     private final OrderMapper orderMapper;
     private final LogMapper logMapper;
 
+    // 목록 API 페이지 크기 (size 파라미터 생략 시 기본값, 초과 요청은 최대값으로 제한)
+    @Value("${api.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${api.pagination.max-size:100}")
+    private int maxPageSize;
+
     public ApiController(UserService userService, InventoryService inventoryService, 
                         OrderService orderService, LogService logService,
+                        InventoryAdjustmentAggregator inventoryAdjustmentAggregator,
+                        InventoryImportService inventoryImportService,
+                        InventoryStatsService inventoryStatsService,
+                        InventoryQrCodeCache inventoryQrCodeCache,
                         UserMapper userMapper, InventoryMapper inventoryMapper,
                         OrderMapper orderMapper, LogMapper logMapper) {
         this.userService = userService;
         this.inventoryService = inventoryService;
         this.orderService = orderService;
         this.logService = logService;
+        this.inventoryAdjustmentAggregator = inventoryAdjustmentAggregator;
+        this.inventoryImportService = inventoryImportService;
+        this.inventoryStatsService = inventoryStatsService;
+        this.inventoryQrCodeCache = inventoryQrCodeCache;
         this.userMapper = userMapper;
         this.inventoryMapper = inventoryMapper;
         this.orderMapper = orderMapper;
@@ -91,14 +126,13 @@ public class ApiController {
     }
 
     @GetMapping("/users")
-    public List<User.Response> getAllUsers() {
-        // 전체 사용자 목록 조회
-        List<User> users = userService.findAllUsers();
+    public ResponseEntity<CursorPage<User.Response>> getAllUsers(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        // 사용자 목록 조회 (가입일 최신순 키셋 페이지)
+        CursorPage<User> users = userService.findUserPage(KeysetCursor.decode(cursor), pageSize(size));
         
         // MapStruct를 사용한 Entity → DTO 변환
-        return users.stream()
-                .map(userMapper::toResponse)
-                .toList();
+        return withNextLink(users.map(userMapper::toResponse));
     }
 
     @GetMapping("/users/search")
@@ -114,9 +148,20 @@ public class ApiController {
     // ==================== 재고 관리 API ====================
 
     @GetMapping("/inventory")
-    public List<Inventory.Response> getAllInventory() {
-        // 전체 재고 목록 조회
-        List<Inventory> inventories = inventoryService.findAllInventories();
+    public ResponseEntity<CursorPage<Inventory.Response>> getAllInventory(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) Integer size) {
+        // 재고 목록 조회 (수정일 최신순 키셋 페이지)
+        CursorPage<Inventory> inventories = inventoryService.findInventoryPage(KeysetCursor.decode(cursor), pageSize(size));
+        
+        // MapStruct를 사용한 Entity → DTO 변환
+        return withNextLink(inventories.map(inventoryMapper::toResponse));
+    }
+
+    @GetMapping("/inventory/search")
+    public List<Inventory.Response> searchInventory(@RequestParam String q,
+                                                    @RequestParam(required = false) Integer limit) {
+        // 재고 검색 (상품 코드 일치 > 접두사 > 부분 일치 순, 메모리 트라이그램 색인)
+        List<Inventory> inventories = inventoryService.searchInventories(q, pageSize(limit));
         
         // MapStruct를 사용한 Entity → DTO 변환
         return inventories.stream()
@@ -124,6 +169,13 @@ public class ApiController {
                 .toList();
     }
 
+    @GetMapping("/inventory/scan")
+    public Inventory.Response scanInventory(@RequestParam String qrCode) {
+        // QR 스캔 조회 (캐시된 DTO 반환, 이 경로는 OSIV 에서 제외되어 적중 시 JPA 세션을 열지 않음)
+        return inventoryQrCodeCache.scan(qrCode)
+                .orElseThrow(() -> new ResourceNotFoundException("Inventory not found with QR code: " + qrCode));
+    }
+
     @GetMapping("/inventory/{id}")
     public Inventory.Response getInventoryById(@PathVariable Long id) {
         // 재고 상세 조회
@@ -145,6 +197,16 @@ public class ApiController {
         return inventoryMapper.toResponse(savedInventory);
     }
 
+    @PostMapping(value = "/inventory/import", consumes = {"application/x-ndjson", "text/csv"})
+    public Inventory.ImportResponse importInventories(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                      InputStream body) throws IOException {
+        // 재고 대량 등록 (본문을 스트리밍으로 읽으며 청크 단위 배치 INSERT)
+        InventoryImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV)
+                ? InventoryImportService.Format.CSV
+                : InventoryImportService.Format.NDJSON;
+        return inventoryImportService.importInventories(body, format);
+    }
+
     @PutMapping("/inventory/{id}")
     public Inventory.Response updateInventory(@PathVariable Long id, @Valid @RequestBody Inventory.UpdateRequest request) {
         // 기존 재고 조회
@@ -168,17 +230,19 @@ public class ApiController {
 
     @PutMapping("/inventory/{id}/quantity")
     public Inventory.Response adjustInventoryQuantity(@PathVariable Long id, @RequestParam Integer quantity) {
-        // 재고 수량 조정
-        Inventory adjustedInventory = inventoryService.adjustQuantity(id, quantity);
+        // 재고 수량 조정 (집계 사용 시 같은 상품의 동시 조정을 합산해 반영, 커밋 후 응답)
+        Inventory adjustedInventory = inventoryAdjustmentAggregator.adjustQuantity(id, quantity);
         
         // MapStruct를 사용한 Entity → DTO 변환
         return inventoryMapper.toResponse(adjustedInventory);
     }
 
     @GetMapping("/inventory/low-stock")
-    public List<Inventory.Response> getLowStockInventory(@RequestParam(defaultValue = "10") Integer threshold) {
-        // 저재고 알림 목록 조회 (기본 임계값: 10)
-        List<Inventory> lowStockInventories = inventoryService.findLowStockItems(threshold);
+    public List<Inventory.Response> getLowStockInventory(@RequestParam(required = false) Integer threshold) {
+        // 저재고 알림 목록 조회 (기본: 상품별 재주문 기준, threshold 지정 시 공통 임계값으로 전체 조회)
+        List<Inventory> lowStockInventories = threshold == null
+                ? inventoryService.findLowStockItems()
+                : inventoryService.findLowStockItems(threshold);
         
         // MapStruct를 사용한 Entity → DTO 변환
         return lowStockInventories.stream()
@@ -186,28 +250,32 @@ public class ApiController {
                 .toList();
     }
 
+    @GetMapping("/inventory/stats")
+    public Inventory.StatsResponse getInventoryStats() {
+        // 재고 통계 조회 (DB 조회 없이 메모리 카운터 반환)
+        return inventoryStatsService.getStats();
+    }
+
     // ==================== 주문 관리 API ====================
 
     @GetMapping("/orders/inbound")
-    public List<InboundOrder.Response> getAllInboundOrders() {
-        // 입고 주문 목록 조회
-        List<InboundOrder> inboundOrders = orderService.findAllInboundOrders();
+    public ResponseEntity<CursorPage<InboundOrder.Response>> getAllInboundOrders(@RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(required = false) Integer size) {
+        // 입고 주문 목록 조회 (생성일 최신순 키셋 페이지)
+        CursorPage<InboundOrder> inboundOrders = orderService.findInboundOrderPage(KeysetCursor.decode(cursor), pageSize(size));
         
         // MapStruct를 사용한 Entity → DTO 변환
-        return inboundOrders.stream()
-                .map(orderMapper::toResponse)
-                .toList();
+        return withNextLink(inboundOrders.map(orderMapper::toResponse));
     }
 
     @GetMapping("/orders/outbound")
-    public List<OutboundOrder.Response> getAllOutboundOrders() {
-        // 출고 주문 목록 조회
-        List<OutboundOrder> outboundOrders = orderService.findAllOutboundOrders();
+    public ResponseEntity<CursorPage<OutboundOrder.Response>> getAllOutboundOrders(@RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(required = false) Integer size) {
+        // 출고 주문 목록 조회 (생성일 최신순 키셋 페이지)
+        CursorPage<OutboundOrder> outboundOrders = orderService.findOutboundOrderPage(KeysetCursor.decode(cursor), pageSize(size));
         
         // MapStruct를 사용한 Entity → DTO 변환
-        return outboundOrders.stream()
-                .map(orderMapper::toResponse)
-                .toList();
+        return withNextLink(outboundOrders.map(orderMapper::toResponse));
     }
 
     @PostMapping("/orders/inbound")
@@ -291,14 +359,13 @@ public class ApiController {
     // ==================== 로그 조회 API ====================
 
     @GetMapping("/logs")
-    public List<Log.Response> getAllLogs() {
-        // 전체 로그 목록 조회
-        List<Log> logs = logService.findAllLogs();
+    public ResponseEntity<CursorPage<Log.Response>> getAllLogs(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        // 로그 목록 조회 (최신순 키셋 페이지)
+        CursorPage<Log> logs = logService.findLogPage(KeysetCursor.decode(cursor), pageSize(size));
         
         // MapStruct를 사용한 Entity → DTO 변환
-        return logs.stream()
-                .map(logMapper::toResponse)
-                .toList();
+        return withNextLink(logs.map(logMapper::toResponse));
     }
 
     @GetMapping("/logs/recent")
@@ -344,5 +411,23 @@ public class ApiController {
                 .map(logMapper::toResponse)
                 .toList();
     }
-}
 
+    private int pageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(requested, maxPageSize));
+    }
+
+    // 다음 페이지가 있으면 Link: <...?cursor=...>; rel="next" 헤더 추가
+    private <T> ResponseEntity<CursorPage<T>> withNextLink(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page);
+    }
+}
@@ -9,9 +9,11 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -49,6 +51,12 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> checkAvailability(@RequestParam String nickname) {
+        // 닉네임 사용 가능 여부 (최종 중복 판단은 회원가입 시 수행)
+        return ResponseEntity.ok(authService.checkAvailability(nickname));
+    }
+
     @PostMapping("/signout")
     public ResponseEntity<SignOutResponse> signOut(@Valid @RequestBody SignOutRequest request) {
         // 로그아웃 처리 (토큰 무효화)
@@ -98,6 +106,10 @@ public class AuthController {
             User.Response user
     ) {}
 
+    public static record AvailabilityResponse(
+            boolean nicknameAvailable
+    ) {}
+
     public static record SignOutRequest(
             @NotBlank(message = "액세스 토큰은 필수입니다")
             String accessToken
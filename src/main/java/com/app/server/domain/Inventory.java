@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Min;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -14,17 +15,32 @@ import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.LastModifiedBy;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "inventory")
+@Table(name = "inventory", uniqueConstraints = {
+        // QR 스캔 조회는 한 건만 반환해야 하므로 중복 불가 (삭제된 재고 포함, 상품 코드와 동일)
+        @UniqueConstraint(name = Inventory.UK_QR_CODE, columnNames = "qrCode")
+}, indexes = {
+        // 목록 API 키셋 페이지 조회용
+        @Index(name = "idx_inventory_active_updated", columnList = "updatedAt DESC, id DESC")
+})
 public class Inventory {
 
+    // 재주문 기준 수량 기본값 (기존 저재고 조회의 기본 임계값과 동일)
+    public static final int DEFAULT_REORDER_POINT = 10;
+
+    // QR 코드 유니크 제약 조건 이름 (마이그레이션과 동일)
+    public static final String UK_QR_CODE = "uk_inventory_qr_code";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_seq")
+    @SequenceGenerator(name = "inventory_seq", sequenceName = "inventory_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -36,6 +52,10 @@ public class Inventory {
     @Column(nullable = false)
     private Integer quantity;
 
+    // 수량이 이 값 이하이면 저재고
+    @Column(nullable = false)
+    private int reorderPoint = DEFAULT_REORDER_POINT;
+
     @Column(nullable = false)
     private String location;
 
@@ -60,6 +80,51 @@ public class Inventory {
 
     private boolean deleted = false; // Soft delete 필드
 
+    // 낙관적 잠금: 동시 수정 시 나중에 커밋하는 쪽이 충돌로 실패하고 @RetryOnConflict 로 재시도
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // 재고 통계 증감 계산용: 마지막으로 DB와 일치했던 상태 (OSIV 로 요청 중 엔티티가 먼저 수정되어도 이전 값 유지)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private StockState persistedStockState;
+
+    // QR 조회 캐시 무효화용: QR 코드가 바뀌면 이전 코드의 캐시도 지워야 함
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String persistedQrCode;
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void capturePersistedState() {
+        this.persistedStockState = currentStockState();
+        this.persistedQrCode = qrCode;
+    }
+
+    public StockState persistedStockState() {
+        return persistedStockState;
+    }
+
+    public String persistedQrCode() {
+        return persistedQrCode;
+    }
+
+    // 통계에 반영되는 현재 상태 (삭제된 재고는 제외되므로 null)
+    public StockState currentStockState() {
+        return deleted || quantity == null ? null : new StockState(location, quantity, reorderPoint);
+    }
+
+    public record StockState(String location, int quantity, int reorderPoint) {
+
+        public boolean lowStock() {
+            return quantity <= reorderPoint;
+        }
+    }
+
     // DTO Classes - 도메인 응집도를 높이기 위한 static inner classes
     public static record CreateRequest(
             @NotBlank(message = "상품명은 필수입니다")
@@ -72,14 +137,43 @@ public class Inventory {
             @NotBlank(message = "위치는 필수입니다")
             String location,
             @NotBlank(message = "QR 코드는 필수입니다")
-            String qrCode
+            String qrCode,
+            // 생략 시 DEFAULT_REORDER_POINT
+            @Min(value = 0, message = "재주문 기준 수량은 0 이상이어야 합니다")
+            Integer reorderPoint
     ) {}
 
     public static record UpdateRequest(
             String itemName,
             @Min(value = 0, message = "수량은 0 이상이어야 합니다")
             Integer quantity,
-            String location
+            String location,
+            @Min(value = 0, message = "재주문 기준 수량은 0 이상이어야 합니다")
+            Integer reorderPoint
+    ) {}
+
+    // 대량 등록 결과 (errorsTruncated 이면 errors 는 앞쪽 일부만 포함)
+    public static record ImportResponse(
+            long receivedRows,
+            long importedRows,
+            long failedRows,
+            boolean errorsTruncated,
+            List<ImportError> errors
+    ) {}
+
+    public static record ImportError(
+            long line,
+            String itemCode,
+            String message
+    ) {}
+
+    // 재고 통계 (unitsByLocation 은 삭제되지 않은 재고가 있는 위치만 포함)
+    public static record StatsResponse(
+            long activeSkus,
+            long totalUnits,
+            long lowStockCount,
+            Map<String, Long> unitsByLocation,
+            LocalDateTime reconciledAt
     ) {}
 
     public static record Response(
@@ -87,6 +181,7 @@ public class Inventory {
             String itemName,
             String itemCode,
             Integer quantity,
+            Integer reorderPoint,
             String location,
             String qrCode,
             LocalDateTime createdAt,
@@ -20,11 +20,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "outbound_order")
+@Table(name = "outbound_order", indexes = {
+        // 목록 API 키셋 페이지 조회용
+        @Index(name = "idx_outbound_order_active_created", columnList = "createdAt DESC, id DESC")
+})
 public class OutboundOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbound_order_seq")
+    @SequenceGenerator(name = "outbound_order_seq", sequenceName = "outbound_order_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -67,6 +71,11 @@ public class OutboundOrder {
 
     private boolean deleted = false; // Soft delete 필드
 
+    // 낙관적 잠금: 동시 수정 시 나중에 커밋하는 쪽이 충돌로 실패하고 @RetryOnConflict 로 재시도
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // DTO Classes - 도메인 응집도를 높이기 위한 static inner classes
     public static record CreateRequest(
             @NotBlank(message = "주문 번호는 필수입니다")
@@ -7,6 +7,9 @@ import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 
 @Getter
@@ -14,17 +17,24 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "refresh_token")
+@Table(name = "refresh_token", indexes = {
+        // 만료 토큰 정리 작업(RefreshTokenPurgeJob)의 범위 조회용
+        @Index(name = "idx_refresh_token_expiry_date", columnList = "expiryDate"),
+        // 사용자별 세션 수 제한(최신순 유지) 조회용
+        @Index(name = "idx_refresh_token_user_active", columnList = "userId, createdAt")
+})
 public class RefreshToken {
 
-
+    public static final int TOKEN_HASH_LENGTH = 32;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    // 원문 토큰 대신 SHA-256 다이제스트(32바이트)만 저장 - 고정 폭 인덱스, DB 유출 시에도 토큰 재사용 불가
+    @Column(nullable = false, unique = true, length = TOKEN_HASH_LENGTH)
+    private byte[] tokenHash;
 
     @Column(nullable = false)
     private Long userId;
@@ -43,9 +53,9 @@ public class RefreshToken {
     @Column(nullable = false)
     private boolean revoked = false; // 토큰 무효화 여부
 
-    // 생성자
+    // 생성자 - 원문 토큰은 해시만 보관
     public RefreshToken(String token, Long userId, LocalDateTime expiryDate) {
-        this.token = token;
+        this.tokenHash = hash(token);
         this.userId = userId;
         this.expiryDate = expiryDate;
     }
@@ -63,10 +73,22 @@ public class RefreshToken {
         this.revoked = true;
     }
 
+    /**
+     * 리프레시 토큰 원문의 SHA-256 다이제스트 계산 (조회/무효화 시 키로 사용)
+     * @param token 토큰 원문
+     * @return 32바이트 다이제스트
+     */
+    public static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
     // DTO Classes - 도메인 응집도를 높이기 위한 static inner classes
     public static record Response(
             Long id,
-            String token,
             Long userId,
             String userEmail,
             LocalDateTime expiryDate,
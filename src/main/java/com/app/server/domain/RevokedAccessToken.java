@@ -0,0 +1,60 @@
+package com.app.server.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그아웃 등으로 만료 전에 무효화된 액세스 토큰(jti)
+ * 토큰 만료 시각(expiresAt)이 지나면 더 이상 필요 없으므로 정리 대상이 된다.
+ * jti 는 직접 지정하는 ID 이므로 Persistable 로 신규 여부를 알려 save 시 merge(사전 SELECT) 없이 INSERT 한다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "revoked_access_token", indexes = {
+        @Index(name = "idx_revoked_access_token_revoked_at", columnList = "revokedAt"),
+        @Index(name = "idx_revoked_access_token_expires_at", columnList = "expiresAt")
+})
+public class RevokedAccessToken implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime revokedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public RevokedAccessToken(String jti, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+}
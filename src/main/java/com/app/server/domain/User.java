@@ -20,20 +20,31 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = User.UK_NICKNAME, columnNames = "nickname")
+}, indexes = {
+        // 목록 API 키셋 페이지 조회용
+        @Index(name = "idx_users_created", columnList = "createdAt DESC, id DESC")
+})
 public class User {
 
+    // 회원가입 시 중복 판단에 사용하는 유니크 제약 조건 이름 (마이그레이션과 동일)
+    public static final String UK_EMAIL = "uk_users_email";
+    public static final String UK_NICKNAME = "uk_users_nickname";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String nickname;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Enumerated(EnumType.STRING)
@@ -59,6 +70,15 @@ public class User {
 
     private boolean deleted = false; // Soft delete 필드
 
+    // 낙관적 잠금: 동시 수정 시 나중에 커밋하는 쪽이 충돌로 실패하고 @RetryOnConflict 로 재시도
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // 권한 변경/삭제 시 증가시켜 이전에 발급된 액세스 토큰을 무효화
+    @Column(nullable = false)
+    private long securityVersion = 0;
+
     // 비밀번호 암호화는 Spring Security에서 처리
 
     // DTO Classes - 도메인 응집도를 높이기 위한 static inner classes
@@ -0,0 +1,33 @@
+package com.app.server.exception;
+
+import com.app.server.support.PreEncodedErrorBody;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 본문이 고정된 오류 응답 템플릿 (path 만 요청마다 채워짐)
+ * 인증 실패/권한 없음/없는 경로/속도 제한은 스캐너 트래픽에서 대량 발생하므로 미리 인코딩해 둔다.
+ */
+public final class ErrorTemplates {
+
+    public static final PreEncodedErrorBody UNAUTHORIZED = of(HttpStatus.UNAUTHORIZED,
+            "인증이 필요합니다. 유효한 JWT 토큰을 제공해주세요.");
+
+    public static final PreEncodedErrorBody FORBIDDEN = of(HttpStatus.FORBIDDEN,
+            "접근 권한이 없습니다.");
+
+    public static final PreEncodedErrorBody NOT_FOUND = of(HttpStatus.NOT_FOUND,
+            "요청한 리소스를 찾을 수 없습니다.");
+
+    public static final PreEncodedErrorBody TOO_MANY_REQUESTS = of(HttpStatus.TOO_MANY_REQUESTS,
+            "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+
+    public static final PreEncodedErrorBody PAYLOAD_TOO_LARGE = of(HttpStatus.PAYLOAD_TOO_LARGE,
+            "요청 본문이 너무 큽니다.");
+
+    private ErrorTemplates() {
+    }
+
+    private static PreEncodedErrorBody of(HttpStatus status, String message) {
+        return new PreEncodedErrorBody(status.value(), status.getReasonPhrase(), message);
+    }
+}
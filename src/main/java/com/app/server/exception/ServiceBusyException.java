@@ -0,0 +1,18 @@
+package com.app.server.exception;
+
+/**
+ * 처리 용량 초과로 요청을 즉시 거절할 때 발생하는 예외 (503 + Retry-After)
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message, null, false, false); // 포화 시 대량 발생하므로 스택 트레이스 생략
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
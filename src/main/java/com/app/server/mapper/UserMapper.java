@@ -24,6 +24,8 @@ public interface UserMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "securityVersion", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User toEntity(User.CreateRequest request);
 
     /**
@@ -45,5 +47,7 @@ public interface UserMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "securityVersion", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(User.UpdateRequest request, @MappingTarget User user);
 }
\ No newline at end of file
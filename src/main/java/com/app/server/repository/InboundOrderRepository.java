@@ -2,6 +2,7 @@ package com.app.server.repository;
 
 import com.app.server.domain.InboundOrder;
 import com.app.server.domain.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,6 +32,14 @@ public interface InboundOrderRepository extends JpaRepository<InboundOrder, Long
     
     @Query("SELECT io FROM InboundOrder io WHERE io.deleted = false ORDER BY io.createdAt DESC")
     List<InboundOrder> findAllActiveOrderByCreatedAtDesc();
+
+    // 목록 API 키셋 페이지: (createdAt, id) 내림차순
+    @Query("SELECT io FROM InboundOrder io WHERE io.deleted = false ORDER BY io.createdAt DESC, io.id DESC")
+    List<InboundOrder> findActivePage(Pageable pageable);
+
+    @Query("SELECT io FROM InboundOrder io WHERE io.deleted = false AND (io.createdAt, io.id) < (:timestamp, :id) " +
+           "ORDER BY io.createdAt DESC, io.id DESC")
+    List<InboundOrder> findActivePageAfter(@Param("timestamp") LocalDateTime timestamp, @Param("id") Long id, Pageable pageable);
     
     boolean existsByOrderNumber(String orderNumber);
     
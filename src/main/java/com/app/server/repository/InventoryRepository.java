@@ -1,12 +1,20 @@
 package com.app.server.repository;
 
 import com.app.server.domain.Inventory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
@@ -23,6 +31,79 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     
     @Query("SELECT i FROM Inventory i WHERE i.deleted = false ORDER BY i.updatedAt DESC")
     List<Inventory> findAllActiveOrderByUpdatedAtDesc();
+
+    // 목록 API 키셋 페이지: (updatedAt, id) 내림차순
+    @Query("SELECT i FROM Inventory i WHERE i.deleted = false ORDER BY i.updatedAt DESC, i.id DESC")
+    List<Inventory> findActivePage(Pageable pageable);
+
+    @Query("SELECT i FROM Inventory i WHERE i.deleted = false AND (i.updatedAt, i.id) < (:timestamp, :id) " +
+           "ORDER BY i.updatedAt DESC, i.id DESC")
+    List<Inventory> findActivePageAfter(@Param("timestamp") LocalDateTime timestamp, @Param("id") Long id, Pageable pageable);
     
     boolean existsByItemCode(String itemCode);
-}
\ No newline at end of file
+
+    boolean existsByQrCode(String qrCode);
+
+    long countByDeletedFalse();
+
+    // 재고 통계 재계산용 위치별 집계 (한 번의 쿼리로 같은 시점의 SKU 수, 수량 합계, 저재고 수)
+    @Query("SELECT i.location AS location, COUNT(i) AS skus, SUM(i.quantity) AS units, " +
+           "SUM(CASE WHEN i.quantity <= i.reorderPoint THEN 1 ELSE 0 END) AS lowStock " +
+           "FROM Inventory i WHERE i.deleted = false GROUP BY i.location")
+    List<LocationStats> aggregateActiveByLocation();
+
+    // 저재고 색인 재계산용 (부분 인덱스 idx_inventory_low_stock 범위만 조회)
+    @Query("SELECT i.id AS id, i.quantity AS quantity, i.reorderPoint AS reorderPoint FROM Inventory i " +
+           "WHERE i.deleted = false AND i.quantity <= i.reorderPoint")
+    List<LowStockLevel> findLowStockLevels();
+
+    // 대량 등록 시 청크 단위 중복 확인 (행마다 existsByItemCode 를 호출하지 않음)
+    @Query("SELECT i.itemCode FROM Inventory i WHERE i.itemCode IN :itemCodes")
+    List<String> findExistingItemCodes(@Param("itemCodes") Collection<String> itemCodes);
+
+    /**
+     * 재고 수량을 조회 없이 한 번의 조건부 UPDATE로 증감
+     * 동시 조정 시에도 DB 행 잠금으로 직렬화되어 갱신 손실이 없다.
+     * 벌크 UPDATE 이므로 감사(@LastModifiedDate) 필드와 버전은 직접 갱신하고, 영속성 컨텍스트는 비운다.
+     * @return 갱신된 행 수 (0이면 재고 부족, 수량 상한 초과, 삭제됨 또는 존재하지 않음)
+     */
+    default int adjustQuantity(Long id, int delta, LocalDateTime now) {
+        // 조정 후 수량이 0 이상 Integer.MAX_VALUE 이하가 되는 현재 수량 범위 (DB에서 int 덧셈이 넘치지 않도록 미리 계산)
+        long minQuantity = Math.max(0L, -(long) delta);
+        long maxQuantity = Math.min((long) Integer.MAX_VALUE, (long) Integer.MAX_VALUE - delta);
+        return adjustQuantityWithin(id, delta, minQuantity, maxQuantity, now);
+    }
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity + :delta, i.updatedAt = :now, i.version = i.version + 1 " +
+           "WHERE i.id = :id AND i.deleted = false AND i.quantity BETWEEN :minQuantity AND :maxQuantity")
+    int adjustQuantityWithin(@Param("id") Long id, @Param("delta") int delta,
+                             @Param("minQuantity") long minQuantity, @Param("maxQuantity") long maxQuantity,
+                             @Param("now") LocalDateTime now);
+
+    // 검색 색인 적재용 (트랜잭션 안에서 스트림을 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT i.id AS id, i.itemName AS itemName, i.itemCode AS itemCode, i.location AS location " +
+           "FROM Inventory i WHERE i.deleted = false")
+    Stream<SearchText> streamActiveSearchTexts();
+
+    interface LocationStats {
+        String getLocation();
+        Long getSkus();
+        Long getUnits();
+        Long getLowStock();
+    }
+
+    interface LowStockLevel {
+        Long getId();
+        Integer getQuantity();
+        Integer getReorderPoint();
+    }
+
+    interface SearchText {
+        Long getId();
+        String getItemName();
+        String getItemCode();
+        String getLocation();
+    }
+}
@@ -1,6 +1,7 @@
 package com.app.server.repository;
 
 import com.app.server.domain.Log;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -34,6 +35,14 @@ public interface LogRepository extends JpaRepository<Log, Long> {
     
     @Query("SELECT l FROM Log l ORDER BY l.timestamp DESC")
     List<Log> findAllOrderByTimestampDesc();
+
+    // 목록 API 키셋 페이지: (timestamp, id) 내림차순
+    @Query("SELECT l FROM Log l ORDER BY l.timestamp DESC, l.id DESC")
+    List<Log> findPage(Pageable pageable);
+
+    @Query("SELECT l FROM Log l WHERE (l.timestamp, l.id) < (:timestamp, :id) " +
+           "ORDER BY l.timestamp DESC, l.id DESC")
+    List<Log> findPageAfter(@Param("timestamp") LocalDateTime timestamp, @Param("id") Long id, Pageable pageable);
     
     @Query("SELECT DISTINCT l.action FROM Log l ORDER BY l.action")
     List<String> findDistinctActions();
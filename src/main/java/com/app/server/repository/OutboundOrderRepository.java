@@ -2,6 +2,7 @@ package com.app.server.repository;
 
 import com.app.server.domain.OutboundOrder;
 import com.app.server.domain.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,6 +32,14 @@ public interface OutboundOrderRepository extends JpaRepository<OutboundOrder, Lo
     
     @Query("SELECT oo FROM OutboundOrder oo WHERE oo.deleted = false ORDER BY oo.createdAt DESC")
     List<OutboundOrder> findAllActiveOrderByCreatedAtDesc();
+
+    // 목록 API 키셋 페이지: (createdAt, id) 내림차순
+    @Query("SELECT oo FROM OutboundOrder oo WHERE oo.deleted = false ORDER BY oo.createdAt DESC, oo.id DESC")
+    List<OutboundOrder> findActivePage(Pageable pageable);
+
+    @Query("SELECT oo FROM OutboundOrder oo WHERE oo.deleted = false AND (oo.createdAt, oo.id) < (:timestamp, :id) " +
+           "ORDER BY oo.createdAt DESC, oo.id DESC")
+    List<OutboundOrder> findActivePageAfter(@Param("timestamp") LocalDateTime timestamp, @Param("id") Long id, Pageable pageable);
     
     boolean existsByOrderNumber(String orderNumber);
     
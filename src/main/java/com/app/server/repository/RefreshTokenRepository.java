@@ -15,11 +15,11 @@ import java.util.Optional;
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     /**
-     * 토큰 문자열로 리프레시 토큰 조회
-     * @param token 토큰 문자열
+     * 토큰 다이제스트로 리프레시 토큰 조회
+     * @param tokenHash 토큰 다이제스트 (RefreshToken.hash)
      * @return RefreshToken 엔티티
      */
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
     /**
      * 사용자 ID로 리프레시 토큰 조회 (최신순)
@@ -47,11 +47,40 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
 
     /**
      * 특정 토큰 무효화
-     * @param token 토큰 문자열
+     * @param tokenHash 토큰 다이제스트
      */
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.token = :token")
-    void revokeToken(@Param("token") String token);
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.tokenHash = :tokenHash")
+    void revokeToken(@Param("tokenHash") byte[] tokenHash);
+
+    /**
+     * 유효한(무효화되지 않고 만료되지 않은) 토큰일 때만 무효화
+     * 단일 조건부 UPDATE이므로 같은 토큰으로 동시에 갱신해도 하나의 요청만 1을 받는다.
+     * @param tokenHash 토큰 다이제스트
+     * @param now 현재 시간
+     * @return 무효화된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.tokenHash = :tokenHash AND rt.revoked = false AND rt.expiryDate > :now")
+    int revokeIfValid(@Param("tokenHash") byte[] tokenHash, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자의 유효한 토큰 중 최신 maxSessions 건을 제외한 나머지를 무효화 (세션 수 제한)
+     * 조회 없이 단일 UPDATE로 처리하므로 로그인마다 읽기-쓰기 왕복이 추가되지 않는다.
+     * @param userId 사용자 ID
+     * @param maxSessions 유지할 최대 세션 수
+     * @param now 현재 시간
+     * @return 무효화된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE refresh_token SET revoked = true " +
+            "WHERE user_id = :userId AND revoked = false AND id NOT IN (" +
+            "SELECT id FROM refresh_token WHERE user_id = :userId AND revoked = false AND expiry_date > :now " +
+            "ORDER BY created_at DESC, id DESC LIMIT :maxSessions)",
+            nativeQuery = true)
+    int revokeSessionsBeyondLimit(@Param("userId") Long userId,
+                                  @Param("maxSessions") int maxSessions,
+                                  @Param("now") LocalDateTime now);
 
     /**
      * 만료된 토큰 삭제
@@ -68,6 +97,19 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Query("DELETE FROM RefreshToken rt WHERE rt.revoked = true")
     void deleteRevokedTokens();
 
+    /**
+     * 만료되었거나 무효화된 토큰을 최대 limit 건만 삭제 (청크 단위 정리 작업용)
+     * 한 번에 삭제하는 행 수를 제한하여 트랜잭션이 긴 락을 잡거나 WAL이 급증하지 않도록 한다.
+     * @param now 현재 시간
+     * @param limit 최대 삭제 건수
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE id IN (" +
+            "SELECT id FROM refresh_token WHERE expiry_date < :now OR revoked = true LIMIT :limit)",
+            nativeQuery = true)
+    int deleteExpiredOrRevokedChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
     /**
      * 사용자 ID로 토큰 존재 여부 확인
      * @param userId 사용자 ID
@@ -76,11 +118,11 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     boolean existsByUserId(Long userId);
 
     /**
-     * 토큰 문자열로 존재 여부 확인
-     * @param token 토큰 문자열
+     * 토큰 다이제스트로 존재 여부 확인
+     * @param tokenHash 토큰 다이제스트
      * @return 존재 여부
      */
-    boolean existsByToken(String token);
+    boolean existsByTokenHash(byte[] tokenHash);
 
     /**
      * 사용자별 토큰 개수 조회
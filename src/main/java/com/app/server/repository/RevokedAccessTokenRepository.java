@@ -0,0 +1,36 @@
+package com.app.server.repository;
+
+import com.app.server.domain.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    /**
+     * 특정 시점 이후 무효화되었고 아직 만료되지 않은 토큰 조회 (노드 간 동기화용)
+     * @param revokedAfter 기준 시점 (이 시점 이후 무효화된 토큰)
+     * @param now 현재 시간
+     * @return 무효화된 토큰 리스트
+     */
+    @Query("SELECT t FROM RevokedAccessToken t WHERE t.revokedAt > :revokedAfter AND t.expiresAt > :now")
+    List<RevokedAccessToken> findActiveRevokedAfter(@Param("revokedAfter") LocalDateTime revokedAfter,
+                                                    @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 항목 삭제 (만료된 토큰은 서명 검증 단계에서 거부되므로 더 이상 보관할 필요 없음)
+     * @param now 현재 시간
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,10 +1,16 @@
 package com.app.server.repository;
 
 import com.app.server.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -17,4 +23,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
     
     long countByDeletedFalse();
+
+    // 목록 API 키셋 페이지: (createdAt, id) 내림차순
+    @Query("SELECT u FROM User u ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findPage(Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE (u.createdAt, u.id) < (:timestamp, :id) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findPageAfter(@Param("timestamp") LocalDateTime timestamp, @Param("id") Long id, Pageable pageable);
+
+    // 닉네임 사용 가능 여부 Bloom 필터 초기 적재용 (트랜잭션 안에서 스트림을 닫아야 함)
+    @Query("SELECT u.nickname FROM User u")
+    Stream<String> streamAllNicknames();
+
+    @Query("SELECT u FROM User u WHERE u.id = (SELECT rt.userId FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash)")
+    Optional<User> findByRefreshTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    // 삭제된 사용자도 보안 버전을 함께 읽어 메모리의 값보다 오래된 결과인지 판단할 수 있도록 함
+    @Query("SELECT u.securityVersion AS securityVersion, u.deleted AS deleted FROM User u WHERE u.id = :id")
+    Optional<SecurityState> findSecurityStateById(@Param("id") Long id);
+
+    /**
+     * 로그인 시 비밀번호 재해싱 (버전을 올리지 않는 조건부 UPDATE)
+     * 같은 사용자의 동시 로그인끼리 낙관적 잠금 충돌이 나지 않으며, 그사이 비밀번호가 바뀌었으면 갱신하지 않는다.
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int rehashPassword(@Param("id") Long id, @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+
+    interface SecurityState {
+        Long getSecurityVersion();
+        Boolean getDeleted();
+    }
 }
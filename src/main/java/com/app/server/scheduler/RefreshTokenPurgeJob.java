@@ -0,0 +1,142 @@
+package com.app.server.scheduler;
+
+import com.app.server.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 만료되었거나 무효화된 리프레시 토큰 정리 작업
+ *
+ * - 청크(batch-size)마다 별도 트랜잭션으로 삭제하고 청크 사이에 pause 만큼 쉬어 긴 락과 WAL 급증을 피한다.
+ * - 여러 노드가 동시에 실행해도 PostgreSQL 세션 advisory lock 을 잡은 한 노드만 삭제한다.
+ *   (락은 전용 커넥션에 묶여 있어 노드가 죽으면 커넥션 종료와 함께 해제됨, H2 등 다른 DB는 락 없이 실행)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "auth.refresh-token.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurgeJob {
+
+    // pg_try_advisory_lock 키 (애플리케이션 내 다른 advisory lock 과 겹치지 않는 고정값)
+    private static final long ADVISORY_LOCK_KEY = 0x52544B5F50555247L; // "RTK_PURG"
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final Duration pause;
+    private final Counter purgedCounter;
+    private final Timer purgeTimer;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepository refreshTokenRepository,
+                                PlatformTransactionManager transactionManager,
+                                DataSource dataSource,
+                                MeterRegistry meterRegistry,
+                                @Value("${auth.refresh-token.purge.batch-size:5000}") int batchSize,
+                                @Value("${auth.refresh-token.purge.pause:200ms}") Duration pause) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.purgedCounter = Counter.builder("auth.refresh_token.purged")
+                .description("정리 작업으로 삭제된 리프레시 토큰 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("auth.refresh_token.purge.duration")
+                .description("리프레시 토큰 정리 작업 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${auth.refresh-token.purge.cron:0 */10 * * * *}")
+    public void purge() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            boolean postgres = isPostgres(lockConnection);
+            if (postgres && !tryAdvisoryLock(lockConnection)) {
+                log.debug("다른 노드에서 리프레시 토큰 정리 작업이 실행 중입니다");
+                return;
+            }
+            Timer.Sample sample = Timer.start();
+            try {
+                long purged = purgeInChunks();
+                if (purged > 0) {
+                    log.info("만료/무효화된 리프레시 토큰 {}건 삭제", purged);
+                }
+            } finally {
+                sample.stop(purgeTimer);
+                if (postgres) {
+                    advisoryUnlock(lockConnection);
+                }
+            }
+        } catch (SQLException e) {
+            log.error("리프레시 토큰 정리 작업 실패", e);
+        }
+    }
+
+    /**
+     * 삭제 대상이 남지 않을 때까지 청크 단위로 삭제
+     * @return 삭제된 전체 행 수
+     */
+    long purgeInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+        int deleted;
+        do {
+            Integer chunk = transactionTemplate.execute(
+                    status -> refreshTokenRepository.deleteExpiredOrRevokedChunk(now, batchSize));
+            deleted = chunk != null ? chunk : 0;
+            total += deleted;
+            purgedCounter.increment(deleted);
+
+            if (deleted == batchSize && !sleepBetweenChunks()) {
+                break;
+            }
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    private boolean sleepBetweenChunks() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            // 종료 중이면 남은 청크는 다음 실행에서 처리
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private boolean tryAdvisoryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void advisoryUnlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            statement.execute();
+        }
+    }
+}
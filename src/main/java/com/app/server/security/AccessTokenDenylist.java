@@ -0,0 +1,131 @@
+package com.app.server.security;
+
+import com.app.server.domain.RevokedAccessToken;
+import com.app.server.repository.RevokedAccessTokenRepository;
+import com.app.server.support.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전에 무효화(로그아웃)된 액세스 토큰의 jti 목록
+ *
+ * - DB(revoked_access_token)에 만료 시각과 함께 저장하고, 커밋된 뒤에 메모리에 복제한다 (롤백된 로그아웃은 반영하지 않음).
+ * - 조회는 Bloom 필터를 먼저 확인하므로 대부분의 요청(무효화되지 않은 토큰)은 맵 조회와 할당 없이 끝난다.
+ * - 다른 노드의 무효화는 sync-interval 마다 DB에서 읽어 반영 (최대 지연 = sync-interval)
+ * - 만료된 항목은 purge-interval 마다 메모리/DB에서 제거하고 Bloom 필터를 다시 만들어 메모리를 제한한다.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+    // 커밋 지연으로 revokedAt 이 동기화 시점보다 앞선 행을 놓치지 않도록 겹쳐 읽는 구간
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
+    private final RevokedAccessTokenRepository repository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    // jti -> 토큰 만료 시각(epoch millis)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public AccessTokenDenylist(RevokedAccessTokenRepository repository,
+                               @Value("${jwt.denylist.expected-insertions:100000}") int expectedInsertions,
+                               @Value("${jwt.denylist.false-positive-rate:0.0001}") double falsePositiveRate) {
+        this.repository = repository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 무효화된 토큰인지 확인
+     * @param jti 토큰 ID (jti 클레임), 없으면 무효화 대상이 아님
+     * @return 무효화된 토큰이면 true
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        // Bloom 필터 양성(실제 무효화 또는 거짓 양성)일 때만 맵 확인
+        return revoked.containsKey(jti);
+    }
+
+    /**
+     * 토큰을 만료 시각까지 무효화 (호출한 트랜잭션에서 DB에 저장, 메모리 반영은 커밋 후)
+     * 이미 무효화된 토큰이면 아무것도 하지 않는다. 재시도/중복 로그아웃이 커밋 시 기본 키 충돌로 실패하지 않도록 한다.
+     * @param jti 토큰 ID
+     * @param expiration 토큰 만료 시각
+     */
+    public void revoke(String jti, Date expiration) {
+        if (jti == null || expiration == null) {
+            return;
+        }
+        // 메모리에 없으면(아직 동기화 전인 다른 노드의 무효화 등) DB로 확인
+        if (isRevoked(jti) || repository.existsById(jti)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        repository.save(new RevokedAccessToken(jti, toLocalDateTime(expiration), now));
+
+        long expiresAtMillis = expiration.getTime();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(jti, expiresAtMillis);
+                }
+            });
+        } else {
+            remember(jti, expiresAtMillis);
+        }
+    }
+
+    // 다른 노드에서 무효화한 토큰 반영
+    @Scheduled(fixedDelayString = "${jwt.denylist.sync-interval:10s}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        for (RevokedAccessToken token : repository.findActiveRevokedAfter(lastSyncedAt, now)) {
+            remember(token.getJti(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        lastSyncedAt = now.minusSeconds(SYNC_OVERLAP_SECONDS);
+    }
+
+    // 만료된 항목 제거 후 Bloom 필터 재생성 (삭제를 지원하지 않는 Bloom 필터의 거짓 양성 누적 방지)
+    @Scheduled(fixedDelayString = "${jwt.denylist.purge-interval:10m}")
+    public void purge() {
+        long nowMillis = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::add);
+        bloomFilter = rebuilt;
+        // 재생성 중 이전 필터에만 추가된 항목을 새 필터에 다시 반영
+        revoked.keySet().forEach(rebuilt::add);
+
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("만료된 무효화 액세스 토큰 {}건 삭제", deleted);
+        }
+    }
+
+    private void remember(String jti, long expiresAtMillis) {
+        // 맵에 먼저 넣은 뒤 필터에 추가해야 필터 양성 시 맵 조회가 항상 성공함
+        revoked.put(jti, expiresAtMillis);
+        bloomFilter.add(jti);
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,213 @@
+package com.app.server.security;
+
+import com.app.server.exception.ErrorTemplates;
+import com.app.server.support.TokenBucketRateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * /api/auth/** 요청을 클라이언트 IP 와 대상 이메일 기준으로 속도 제한하는 필터
+ *
+ * 로그인은 DB 조회와 BCrypt 를 유발하므로 한 클라이언트가 CPU 를 독점하지 못하도록
+ * 인증 처리 전에 거절한다 (429 + Retry-After). 제한 규칙은 RateLimitProperties 참고.
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/api/auth/";
+
+    // 이메일 확인을 위해 메모리에 읽어 두는 본문 최대 크기 (인증 요청은 작은 JSON, 초과 시 413)
+    static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Rule> rules = new HashMap<>();
+
+    public AuthRateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+        properties.endpoints().forEach((endpoint, limits) ->
+                rules.put(endpoint, new Rule(
+                        limiter(limits.perIp(), properties.maxKeys()),
+                        limiter(limits.perEmail(), properties.maxKeys()),
+                        rejectedCounter(meterRegistry, endpoint, "ip"),
+                        rejectedCounter(meterRegistry, endpoint, "email"))));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(AUTH_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        Rule rule = rules.get(request.getRequestURI().substring(AUTH_PATH_PREFIX.length()));
+        if (rule == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (rule.perIp() != null && !rule.perIp().tryAcquire(request.getRemoteAddr())) {
+            rule.ipRejected().increment();
+            reject(request, response, rule.perIp());
+            return;
+        }
+
+        if (rule.perEmail() != null) {
+            // 본문을 읽어 이메일을 꺼낸 뒤 컨트롤러가 다시 읽을 수 있도록 캐시된 본문으로 전달
+            byte[] body = readBody(request);
+            if (body == null) {
+                ErrorTemplates.PAYLOAD_TOO_LARGE.writeTo(response, request.getRequestURI());
+                return;
+            }
+            CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+            String email = extractEmail(body);
+            if (email != null && !rule.perEmail().tryAcquire(email)) {
+                rule.emailRejected().increment();
+                reject(request, response, rule.perEmail());
+                return;
+            }
+            chain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    // 버킷이 다시 가득 찬 키를 제거하여 메모리 사용량을 활성 클라이언트 수에 비례하도록 유지
+    @Scheduled(fixedDelayString = "${security.rate-limit.idle-sweep-interval:1m}")
+    public void evictIdleKeys() {
+        for (Rule rule : rules.values()) {
+            if (rule.perIp() != null) {
+                rule.perIp().evictIdle();
+            }
+            if (rule.perEmail() != null) {
+                rule.perEmail().evictIdle();
+            }
+        }
+    }
+
+    // 선언된 길이가 한도를 넘으면 읽지 않고, 길이를 모르면(chunked) 한도 + 1 바이트까지만 읽어 판단
+    // @return 본문, 한도를 넘으면 null
+    private static byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        return body.length > MAX_BODY_BYTES ? null : body;
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            // 형식이 잘못된 본문은 컨트롤러의 검증에서 거절됨
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        TokenBucketRateLimiter limiter) throws IOException {
+        response.setHeader("Retry-After", String.valueOf(limiter.retryAfterSeconds()));
+        ErrorTemplates.TOO_MANY_REQUESTS.writeTo(response, request.getRequestURI());
+    }
+
+    private static TokenBucketRateLimiter limiter(RateLimitProperties.Limit limit, int maxKeys) {
+        return limit != null ? new TokenBucketRateLimiter(limit.capacity(), limit.period(), maxKeys) : null;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String endpoint, String key) {
+        return Counter.builder("auth.rate_limit.rejected")
+                .description("속도 제한으로 거절된 인증 요청 수")
+                .tag("endpoint", endpoint)
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    private record Rule(TokenBucketRateLimiter perIp, TokenBucketRateLimiter perEmail,
+                        Counter ipRejected, Counter emailRejected) {
+    }
+
+    // 미리 읽은 요청 본문을 이후 getInputStream/getReader 호출에 다시 제공
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽기 가능 통지 후, 다 읽었으면 완료 통지
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
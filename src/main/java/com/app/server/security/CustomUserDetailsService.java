@@ -1,63 +1,152 @@
 package com.app.server.security;
 
 import com.app.server.domain.User;
+import com.app.server.domain.UserRole;
 import com.app.server.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
-
+import java.util.Optional;
+
+/**
+ * 이메일로 사용자를 로드하는 UserDetailsService
+ *
+ * 요청마다 users 테이블을 조회하지 않도록 크기/TTL 제한 로컬 캐시를 둔다.
+ * - 존재하지 않거나 삭제된 이메일도 짧은 TTL로 캐시 (토큰 스프레잉 시 DB 보호)
+ * - 같은 노드의 변경은 커밋 직후 UserChangedEvent로 즉시 무효화
+ * - 다른 노드의 변경은 TTL 만료 시 반영되므로 노드 간 최대 불일치 시간 = ttl (부정 캐시는 negative-ttl)
+ */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    // security.user-cache.enabled=false 이면 null (항상 DB 조회)
+    private final Cache<String, Optional<CustomUserPrincipal>> cache;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${security.user-cache.enabled:true}") boolean cacheEnabled,
+                                    @Value("${security.user-cache.max-size:10000}") long maxSize,
+                                    @Value("${security.user-cache.ttl:30s}") Duration ttl,
+                                    @Value("${security.user-cache.negative-ttl:5s}") Duration negativeTtl) {
         this.userRepository = userRepository;
+        if (cacheEnabled) {
+            Cache<String, Optional<CustomUserPrincipal>> userCache = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfter(new PrincipalExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                    .recordStats()
+                    .build();
+            // cache.gets{result=hit|miss}, cache.evictions 등 히트/미스/축출 지표 등록
+            this.cache = CaffeineCacheMetrics.monitor(meterRegistry, userCache, "userDetails");
+        } else {
+            this.cache = null;
+        }
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+        Optional<CustomUserPrincipal> principal = cache != null
+                ? cache.get(email, this::loadFromDatabase)
+                : loadFromDatabase(email);
 
-        // 소프트 삭제된 사용자는 로그인 불가
-        if (user.isDeleted()) {
-            throw new UsernameNotFoundException("삭제된 사용자입니다: " + email);
+        return principal.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+    }
+
+    // 사용자 변경 커밋 후 해당 이메일의 캐시 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (cache != null) {
+            cache.invalidateAll(event.emails());
         }
+    }
 
-        return new CustomUserPrincipal(user);
+    private Optional<CustomUserPrincipal> loadFromDatabase(String email) {
+        // 소프트 삭제된 사용자는 로그인 불가 (존재하지 않는 사용자와 동일하게 부정 캐시)
+        return userRepository.findByEmail(email)
+                .filter(user -> !user.isDeleted())
+                .map(CustomUserPrincipal::new);
     }
 
-    // UserDetails 구현체
-    public static class CustomUserPrincipal implements UserDetails {
-        private final User user;
+    // 정상 항목은 ttl, 부정(미존재) 항목은 negative-ttl 후 만료
+    private record PrincipalExpiry(long ttlNanos, long negativeTtlNanos)
+            implements Expiry<String, Optional<CustomUserPrincipal>> {
+
+        @Override
+        public long expireAfterCreate(String email, Optional<CustomUserPrincipal> principal, long currentTime) {
+            return principal.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String email, Optional<CustomUserPrincipal> principal,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(email, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String email, Optional<CustomUserPrincipal> principal,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * UserDetails 구현체
+     *
+     * 캐시에 담겨 여러 요청 스레드가 함께 읽으므로 관리 상태의 User 엔티티를 감싸지 않고
+     * 인증에 필요한 값(ID, 이메일, 역할, 비밀번호 해시, 보안 버전, 삭제 여부)만 복사한 불변 스냅샷으로 둔다.
+     */
+    public static final class CustomUserPrincipal implements UserDetails {
+        private final Long id;
+        private final String email;
+        private final UserRole role;
+        private final String password;
+        private final long securityVersion;
+        private final boolean deleted;
 
         public CustomUserPrincipal(User user) {
-            this.user = user;
+            this(user.getId(), user.getEmail(), user.getRole(), user.getPassword(), user.getSecurityVersion(), user.isDeleted());
+        }
+
+        public CustomUserPrincipal(Long id, String email, UserRole role, String password, long securityVersion, boolean deleted) {
+            this.id = id;
+            this.email = email;
+            this.role = role;
+            this.password = password;
+            this.securityVersion = securityVersion;
+            this.deleted = deleted;
         }
 
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
             // UserRole을 Spring Security의 GrantedAuthority로 변환
             return Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                new SimpleGrantedAuthority("ROLE_" + role.name())
             );
         }
 
         @Override
         public String getPassword() {
-            return user.getPassword();
+            return password;
         }
 
         @Override
         public String getUsername() {
-            return user.getEmail(); // 이메일을 username으로 사용
+            return email; // 이메일을 username으로 사용
         }
 
         @Override
@@ -77,12 +166,19 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         @Override
         public boolean isEnabled() {
-            return !user.isDeleted(); // 삭제되지 않은 사용자만 활성화
+            return !deleted; // 삭제되지 않은 사용자만 활성화
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public UserRole getRole() {
+            return role;
         }
 
-        // User 엔티티에 접근할 수 있는 메서드
-        public User getUser() {
-            return user;
+        public long getSecurityVersion() {
+            return securityVersion;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.app.server.security;
+
+import com.app.server.exception.ErrorTemplates;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class JwtAccessDeniedHandler implements AccessDeniedHandler {
+
+    @Override
+    public void handle(HttpServletRequest request, HttpServletResponse response,
+                       AccessDeniedException accessDeniedException) throws IOException {
+        // 미리 인코딩된 403 본문에 요청 경로만 채워 응답
+        ErrorTemplates.FORBIDDEN.writeTo(response, request.getRequestURI());
+    }
+}
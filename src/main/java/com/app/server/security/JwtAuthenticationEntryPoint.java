@@ -1,16 +1,13 @@
 package com.app.server.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.app.server.exception.ErrorTemplates;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
@@ -18,20 +15,7 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                          AuthenticationException authException) throws IOException {
-        
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", "Unauthorized");
-        errorResponse.put("message", "인증이 필요합니다. 유효한 JWT 토큰을 제공해주세요.");
-        errorResponse.put("status", HttpServletResponse.SC_UNAUTHORIZED);
-        errorResponse.put("path", request.getRequestURI());
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-        
-        response.getWriter().write(jsonResponse);
+        // 미리 인코딩된 401 본문에 요청 경로만 채워 응답
+        ErrorTemplates.UNAUTHORIZED.writeTo(response, request.getRequestURI());
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,18 @@
 package com.app.server.security;
 
+import com.app.server.security.CustomUserDetailsService.CustomUserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,16 +22,52 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final AccessTokenDenylist accessTokenDenylist;
 
-    public JwtRequestFilter(UserDetailsService userDetailsService, JwtUtil jwtUtil) {
+    // true 이면 요청마다 DB를 조회하지 않고 토큰 클레임으로 인증 주체를 복원
+    private final boolean statelessPrincipal;
+
+    // 인증 단계별 계측 (클레임/사용자 캐시 적중률은 CaffeineCacheMetrics 의 cache.gets 참고)
+    private final Timer parseTimer;
+    private final Timer statelessPrincipalTimer;
+    private final Timer databasePrincipalTimer;
+    private final Counter expiredCounter;
+    private final Counter signatureFailureCounter;
+    private final Counter malformedCounter;
+    private final Counter revokedCounter;
+    private final Counter missingBearerCounter;
+
+    public JwtRequestFilter(UserDetailsService userDetailsService, JwtUtil jwtUtil,
+                            SecurityVersionRegistry securityVersionRegistry,
+                            AccessTokenDenylist accessTokenDenylist,
+                            MeterRegistry meterRegistry,
+                            @Value("${jwt.stateless-principal.enabled:false}") boolean statelessPrincipal) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
+        this.securityVersionRegistry = securityVersionRegistry;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.statelessPrincipal = statelessPrincipal;
+
+        this.parseTimer = Timer.builder("auth.jwt.parse")
+                .description("JWT 파싱 및 서명 검증 시간")
+                .register(meterRegistry);
+        this.statelessPrincipalTimer = principalTimer(meterRegistry, "stateless");
+        this.databasePrincipalTimer = principalTimer(meterRegistry, "database");
+        this.expiredCounter = rejectedCounter(meterRegistry, "expired");
+        this.signatureFailureCounter = rejectedCounter(meterRegistry, "signature");
+        this.malformedCounter = rejectedCounter(meterRegistry, "malformed");
+        this.revokedCounter = rejectedCounter(meterRegistry, "revoked");
+        this.missingBearerCounter = Counter.builder("auth.jwt.missing_bearer")
+                .description("Bearer 토큰 없이 들어온 요청 수")
+                .register(meterRegistry);
     }
 
     @Override
@@ -31,29 +76,53 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         final String requestTokenHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwtToken = null;
+        Claims claims = null;
 
         // JWT 토큰은 "Bearer " 접두사와 함께 전송됨
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            String jwtToken = requestTokenHeader.substring(7);
+            long parseStart = System.nanoTime();
             try {
-                username = jwtUtil.getUsernameFromToken(jwtToken);
+                // 서명 검증과 파싱은 요청당 한 번만 수행하고 클레임을 그대로 전달
+                claims = jwtUtil.parseClaims(jwtToken);
+
+                // 로그아웃으로 무효화된 토큰은 인증하지 않음 (대부분 Bloom 필터에서 바로 통과)
+                if (accessTokenDenylist.isRevoked(claims.getId())) {
+                    revokedCounter.increment();
+                    logger.warn("로그아웃으로 무효화된 JWT 토큰입니다");
+                    claims = null;
+                }
+            } catch (ExpiredJwtException e) {
+                expiredCounter.increment();
+                logger.warn("JWT 토큰이 만료되었습니다");
             } catch (IllegalArgumentException e) {
-                logger.error("JWT 토큰을 가져올 수 없습니다", e);
-            } catch (Exception e) {
-                logger.error("JWT 토큰이 만료되었습니다", e);
+                malformedCounter.increment();
+                logger.warn("JWT 토큰을 가져올 수 없습니다");
+            } catch (SignatureException e) {
+                signatureFailureCounter.increment();
+                logger.warn("JWT 서명이 일치하지 않습니다");
+            } catch (JwtException e) {
+                // 위조/형식 오류 토큰은 스캐너 트래픽에서 대량 발생하므로 스택 트레이스 없이 기록
+                malformedCounter.increment();
+                logger.warn("유효하지 않은 JWT 토큰입니다: " + e.getMessage());
+            } finally {
+                parseTimer.record(System.nanoTime() - parseStart, TimeUnit.NANOSECONDS);
             }
         } else {
-            logger.warn("JWT 토큰이 Bearer 문자열로 시작하지 않습니다");
+            // 익명 요청(헬스 체크 등)마다 로그를 남기지 않고 카운터로 집계
+            missingBearerCounter.increment();
+            if (logger.isDebugEnabled()) {
+                logger.debug("JWT 토큰이 Bearer 문자열로 시작하지 않습니다");
+            }
         }
 
         // 토큰을 검증하고 SecurityContext에 인증 정보 설정
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolvePrincipal(claims);
 
             // 토큰이 유효한 경우 Spring Security에 인증 설정
-            if (jwtUtil.validateToken(jwtToken, userDetails)) {
+            if (userDetails != null && jwtUtil.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
                     new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
@@ -67,4 +136,38 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         
         chain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // 인증 주체 조회: 무상태 모드에서는 클레임으로 복원하고, 그 외에는 DB에서 로드
+    private UserDetails resolvePrincipal(Claims claims) {
+        long start = System.nanoTime();
+        if (statelessPrincipal) {
+            CustomUserPrincipal principal = jwtUtil.getPrincipalFromClaims(claims);
+            if (principal != null) {
+                // 권한 변경/삭제로 보안 버전이 바뀐 사용자의 토큰은 거부
+                boolean current = securityVersionRegistry.isCurrent(principal.getId(), principal.getSecurityVersion());
+                statelessPrincipalTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return current ? principal : null;
+            }
+            // 클레임이 없는 이전 형식의 토큰은 DB 조회로 처리
+        }
+        try {
+            return this.userDetailsService.loadUserByUsername(claims.getSubject());
+        } finally {
+            databasePrincipalTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer principalTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("auth.principal.load")
+                .description("인증 주체 조회 시간")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.jwt.rejected")
+                .description("거부된 JWT 토큰 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,9 +1,15 @@
 package com.app.server.security;
 
+import com.app.server.domain.UserRole;
+import com.app.server.security.CustomUserDetailsService.CustomUserPrincipal;
+import com.app.server.security.VerifiedTokenCache.TokenDigest;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -12,19 +18,67 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:mySecretKey}")
-    private String secret;
+    // 무상태 인증(stateless principal)을 위해 토큰에 포함하는 클레임
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_SECURITY_VERSION = "sv";
 
-    @Value("${jwt.expiration:86400}") // 24시간 (초 단위)
-    private Long expiration;
+    private final Long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // 서명 키와 파서는 불변 + 스레드 안전하므로 기동 시 한 번만 생성해 재사용
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    // jwt.claims-cache.enabled=false 이면 null (매 요청 서명 검증)
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret:mySecretKey}") String secret,
+                   @Value("${jwt.expiration:86400}") Long expiration, // 24시간 (초 단위)
+                   @Value("${jwt.claims-cache.enabled:false}") boolean claimsCacheEnabled,
+                   @Value("${jwt.claims-cache.max-size:50000}") long claimsCacheMaxSize,
+                   MeterRegistry meterRegistry) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokenCache = claimsCacheEnabled
+                ? new VerifiedTokenCache(claimsCacheMaxSize, meterRegistry)
+                : null;
+    }
+
+    // 검증 캐시 없이 생성 (벤치마크/단독 사용)
+    public JwtUtil(String secret, Long expiration) {
+        this(secret, expiration, false, 0, null);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하고 서명을 검증하여 클레임을 반환
+     * 요청 처리 중에는 이 결과를 그대로 전달하여 재파싱을 피한다.
+     * @param token JWT 토큰
+     * @return 검증된 클레임
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 만료, 형식 오류 시
+     */
+    public Claims parseClaims(String token) {
+        if (verifiedTokenCache == null) {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        }
+
+        // 같은 토큰의 반복 요청은 서명 검증과 base64/JSON 디코딩을 건너뜀
+        TokenDigest digest = VerifiedTokenCache.digest(token);
+        Claims claims = verifiedTokenCache.get(digest);
+        if (claims == null) {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+            verifiedTokenCache.put(digest, claims);
+        }
+        return claims;
     }
 
     // 토큰에서 사용자명 추출
@@ -39,45 +93,69 @@ public class JwtUtil {
 
     // 토큰에서 특정 클레임 추출
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    // 토큰에서 모든 클레임 추출
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
     // 토큰 만료 확인
     public Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+        return isTokenExpired(parseClaims(token));
+    }
+
+    // 검증된 클레임으로 만료 확인
+    public boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     // 사용자 정보로 토큰 생성
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof CustomUserPrincipal principal && principal.getRole() != null) {
+            // DB 조회 없이 인증 주체를 복원할 수 있도록 사용자 ID, 역할, 보안 버전을 포함
+            claims.put(CLAIM_USER_ID, principal.getId());
+            claims.put(CLAIM_ROLE, principal.getRole().name());
+            claims.put(CLAIM_SECURITY_VERSION, principal.getSecurityVersion());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
-    // 토큰 생성
+    /**
+     * 검증된 클레임만으로 인증 주체를 복원 (DB 조회 없음)
+     * 복원된 주체에는 ID, 이메일, 역할, 보안 버전만 있고 비밀번호 해시는 없다.
+     * @param claims 검증된 클레임
+     * @return 인증 주체, 필요한 클레임이 없는 이전 형식의 토큰이면 null
+     */
+    public CustomUserPrincipal getPrincipalFromClaims(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Number securityVersion = claims.get(CLAIM_SECURITY_VERSION, Number.class);
+        if (userId == null || role == null || securityVersion == null || claims.getSubject() == null) {
+            return null;
+        }
+
+        return new CustomUserPrincipal(userId.longValue(), claims.getSubject(), UserRole.valueOf(role),
+                null, securityVersion.longValue(), false);
+    }
+
+    // 토큰 생성 (jti: 로그아웃 시 개별 토큰을 무효화하기 위한 고유 ID)
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     // 토큰 유효성 검증
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(parseClaims(token), userDetails);
+    }
+
+    // 검증된 클레임으로 유효성 검증 (재파싱 없음)
+    public boolean validateToken(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.app.server.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * /api/auth/** 속도 제한 설정 (security.rate-limit)
+ * endpoints 의 키는 /api/auth/ 뒤의 경로 (signin, signup, refresh, signout)
+ *
+ * @param enabled 속도 제한 사용 여부
+ * @param maxKeys 제한 규칙별로 추적할 최대 키(IP/이메일) 수
+ * @param endpoints 엔드포인트별 제한, 없는 엔드포인트는 제한하지 않음
+ */
+@ConfigurationProperties(prefix = "security.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxKeys,
+        Map<String, Endpoint> endpoints
+) {
+
+    public RateLimitProperties {
+        endpoints = endpoints != null ? Map.copyOf(endpoints) : Map.of();
+    }
+
+    /**
+     * @param perIp 클라이언트 IP 기준 제한
+     * @param perEmail 요청 본문의 email 기준 제한 (없으면 IP 기준만 적용)
+     */
+    public record Endpoint(Limit perIp, Limit perEmail) {
+    }
+
+    /**
+     * @param capacity 한 번에 허용하는 최대 요청 수
+     * @param period capacity 만큼 다시 허용되기까지의 시간
+     */
+    public record Limit(int capacity, Duration period) {
+    }
+}
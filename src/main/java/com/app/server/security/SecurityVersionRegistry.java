@@ -0,0 +1,79 @@
+package com.app.server.security;
+
+import com.app.server.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 현재 보안 버전을 메모리에 보관하여 무상태 인증 시 토큰의 보안 버전을 확인한다.
+ * - 같은 노드의 변경은 커밋 직후 이벤트로 즉시 반영
+ * - 다른 노드의 변경은 refresh-interval 이 지나 DB에서 다시 읽을 때 반영 (최대 지연 = refresh-interval)
+ * - 최대 max-size 명까지 보관하고 idle-expiry 동안 요청이 없던 사용자는 제거 (다음 요청 때 다시 로드)
+ *
+ * 보안 버전은 증가만 하므로 (버전, 활성 여부)를 하나의 순서 값으로 두고 항상 더 큰 값만 남긴다.
+ * 이벤트 직전에 시작된 DB 재조회가 늦게 끝나도 이벤트로 반영된 최신 값을 되돌리지 못한다.
+ */
+@Component
+public class SecurityVersionRegistry {
+
+    // 존재하지 않는 사용자 표시 (어떤 상태보다도 작음)
+    private static final long UNKNOWN = -1L;
+
+    private final UserRepository userRepository;
+    private final long refreshIntervalNanos;
+    private final Cache<Long, Entry> versions;
+
+    public SecurityVersionRegistry(UserRepository userRepository,
+                                   @Value("${jwt.stateless-principal.refresh-interval:30s}") Duration refreshInterval,
+                                   @Value("${jwt.stateless-principal.max-size:100000}") long maxSize,
+                                   @Value("${jwt.stateless-principal.idle-expiry:10m}") Duration idleExpiry) {
+        this.userRepository = userRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    /**
+     * 토큰에 담긴 보안 버전이 현재 버전과 일치하는지 확인
+     * @param userId 사용자 ID
+     * @param tokenVersion 토큰의 보안 버전
+     * @return 일치하면 true, 권한 변경/삭제로 버전이 바뀌었으면 false
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        long now = System.nanoTime();
+        Entry entry = versions.getIfPresent(userId);
+        if (entry == null || now - entry.loadedAt() > refreshIntervalNanos) {
+            long state = userRepository.findSecurityStateById(userId)
+                    .map(found -> state(found.getSecurityVersion(), !found.getDeleted()))
+                    .orElse(UNKNOWN);
+            entry = apply(userId, state, now);
+        }
+        return entry.state() == state(tokenVersion, true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        apply(event.userId(), state(event.securityVersion(), event.active()), System.nanoTime());
+    }
+
+    // 저장된 상태보다 작지 않을 때만 반영, 로드 시각은 항상 갱신하여 오래된 조회 결과로 재조회가 반복되지 않도록 함
+    private Entry apply(Long userId, long state, long loadedAt) {
+        return versions.asMap().merge(userId, new Entry(state, loadedAt),
+                (stored, fresh) -> new Entry(Math.max(stored.state(), fresh.state()), fresh.loadedAt()));
+    }
+
+    // 같은 버전이면 활성이 더 나중 상태 (삭제는 버전을 올리고, 복원은 버전을 유지)
+    private static long state(long securityVersion, boolean active) {
+        return securityVersion * 2 + (active ? 1 : 0);
+    }
+
+    private record Entry(long state, long loadedAt) {
+    }
+}
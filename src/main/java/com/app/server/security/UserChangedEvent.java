@@ -0,0 +1,24 @@
+package com.app.server.security;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 사용자 정보가 생성/수정/삭제/복원되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 이메일 기준 로컬 캐시(UserDetails 등)를 무효화하는 데 사용된다.
+ * @param userId 사용자 ID (생성 전이면 null)
+ * @param nickname 변경 후 닉네임 (수신 측이 사용자를 다시 조회하지 않도록 함께 전달)
+ * @param emails 영향을 받은 이메일 (이메일 변경 시 이전/이후 모두 포함)
+ */
+public record UserChangedEvent(Long userId, String nickname, Set<String> emails) {
+
+    public static UserChangedEvent of(Long userId, String nickname, String... emails) {
+        Set<String> affected = new HashSet<>();
+        for (String email : emails) {
+            if (email != null) {
+                affected.add(email);
+            }
+        }
+        return new UserChangedEvent(userId, nickname, Set.copyOf(affected));
+    }
+}
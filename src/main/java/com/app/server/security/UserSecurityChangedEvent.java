@@ -0,0 +1,11 @@
+package com.app.server.security;
+
+/**
+ * 사용자의 보안 관련 상태(역할, 이메일, 비밀번호, 삭제 여부)가 바뀌었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 SecurityVersionRegistry에 반영된다.
+ * @param userId 사용자 ID
+ * @param securityVersion 변경 후 보안 버전
+ * @param active 삭제되지 않은 사용자 여부
+ */
+public record UserSecurityChangedEvent(Long userId, long securityVersion, boolean active) {
+}
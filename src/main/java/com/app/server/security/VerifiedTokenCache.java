@@ -0,0 +1,102 @@
+package com.app.server.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미 서명 검증을 마친 토큰의 클레임을 토큰 만료(exp) 시점까지 보관하는 캐시
+ *
+ * - 키는 토큰 원문이 아닌 SHA-256 다이제스트(32바이트)이므로 원문 토큰이 메모리에 남지 않고,
+ *   위조 토큰이 기존 항목과 충돌할 수 없다.
+ * - Caffeine 캐시는 읽기 경로에서 락을 잡지 않으며(내부 버퍼는 스트라이프 구조) 최대 크기로 제한된다.
+ */
+final class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    });
+
+    private final Cache<TokenDigest, Claims> cache;
+
+    VerifiedTokenCache(long maxSize, MeterRegistry meterRegistry) {
+        Cache<TokenDigest, Claims> claimsCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwtClaims");
+    }
+
+    /**
+     * 캐시된 클레임 조회
+     * @return 만료되지 않은 클레임, 없으면 null
+     */
+    Claims get(TokenDigest digest) {
+        Claims claims = cache.getIfPresent(digest);
+        if (claims != null && claims.getExpiration().getTime() <= System.currentTimeMillis()) {
+            // 만료 처리 지연 사이의 요청은 캐시를 건너뛰어 정상 파싱 경로에서 만료 예외가 나도록 함
+            cache.invalidate(digest);
+            return null;
+        }
+        return claims;
+    }
+
+    void put(TokenDigest digest, Claims claims) {
+        // exp가 없는 토큰은 만료 시점을 알 수 없으므로 캐시하지 않음
+        if (claims.getExpiration() != null) {
+            cache.put(digest, claims);
+        }
+    }
+
+    // 보류 중인 축출/만료를 처리한 뒤의 항목 수
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    static TokenDigest digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        ByteBuffer hash = ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    // 32바이트 다이제스트를 long 4개로 보관 (equals/hashCode는 record가 제공)
+    record TokenDigest(long w0, long w1, long w2, long w3) {
+    }
+
+    // 각 항목은 토큰의 exp 시점에 만료
+    private static final class UntilTokenExpiry implements Expiry<TokenDigest, Claims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest digest, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
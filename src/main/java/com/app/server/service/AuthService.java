@@ -1,5 +1,6 @@
 package com.app.server.service;
 
+import com.app.server.controller.AuthController.AvailabilityResponse;
 import com.app.server.controller.AuthController.SignInRequest;
 import com.app.server.controller.AuthController.SignInResponse;
 import com.app.server.controller.AuthController.SignUpRequest;
@@ -22,6 +23,14 @@ public interface AuthService {
      * @return 생성된 사용자 엔티티
      */
     User signUp(SignUpRequest request);
+
+    /**
+     * 회원가입 전 닉네임 사용 가능 여부 조회
+     * 이메일은 가입 여부 열거에 쓰일 수 있어 조회하지 않고, 중복이면 회원가입 시 422로 알린다.
+     * @param nickname 확인할 닉네임
+     * @return 사용 가능 여부
+     */
+    AvailabilityResponse checkAvailability(String nickname);
     
     /**
      * 사용자 로그아웃 처리 (토큰 무효화)
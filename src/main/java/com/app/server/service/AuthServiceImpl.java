@@ -1,5 +1,6 @@
 package com.app.server.service;
 
+import com.app.server.controller.AuthController.AvailabilityResponse;
 import com.app.server.controller.AuthController.SignInRequest;
 import com.app.server.controller.AuthController.SignInResponse;
 import com.app.server.controller.AuthController.SignUpRequest;
@@ -9,19 +10,34 @@ import com.app.server.domain.RefreshToken;
 import com.app.server.domain.User;
 import com.app.server.domain.UserRole;
 import com.app.server.exception.DuplicateEmailException;
+import com.app.server.exception.DuplicateNicknameException;
 import com.app.server.exception.InvalidCredentialsException;
 import com.app.server.exception.ResourceNotFoundException;
 import com.app.server.exception.TokenExpiredException;
 import com.app.server.mapper.UserMapper;
 import com.app.server.repository.RefreshTokenRepository;
 import com.app.server.repository.UserRepository;
+import com.app.server.security.AccessTokenDenylist;
+import com.app.server.security.CustomUserDetailsService.CustomUserPrincipal;
 import com.app.server.security.JwtUtil;
+import com.app.server.security.UserChangedEvent;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
@@ -32,38 +48,85 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final SignUpAvailabilityIndex signUpAvailabilityIndex;
 
     // 리프레시 토큰 만료 시간 (7일)
     private static final long REFRESH_TOKEN_EXPIRY_DAYS = 7;
 
+    // 로그인/토큰 갱신 단계별 계측 (BCrypt 시간과 DB 시간 분리)
+    private final Timer passwordMatchTimer;
+    private final Timer findUserByEmailTimer;
+    private final Timer revokeRefreshTokenTimer;
+    private final Timer findUserByRefreshTokenTimer;
+    private final Timer insertRefreshTokenTimer;
+    private final Counter unknownEmailCounter;
+    private final Counter deletedUserCounter;
+    private final Counter badPasswordCounter;
+
+    // 사용자당 최대 활성 세션(리프레시 토큰) 수, 0 이하이면 제한 없음
+    @Value("${auth.refresh-token.max-sessions-per-user:5}")
+    private int maxSessionsPerUser;
+
     public AuthServiceImpl(UserRepository userRepository, 
                           RefreshTokenRepository refreshTokenRepository,
                           PasswordEncoder passwordEncoder, 
                           JwtUtil jwtUtil,
-                          UserMapper userMapper) {
+                          UserMapper userMapper,
+                          ApplicationEventPublisher eventPublisher,
+                          AccessTokenDenylist accessTokenDenylist,
+                          SignUpAvailabilityIndex signUpAvailabilityIndex,
+                          MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
         this.userMapper = userMapper;
+        this.eventPublisher = eventPublisher;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.signUpAvailabilityIndex = signUpAvailabilityIndex;
+
+        this.passwordMatchTimer = Timer.builder("auth.password")
+                .description("BCrypt 비밀번호 처리 시간")
+                .tag("op", "matches")
+                .register(meterRegistry);
+        this.findUserByEmailTimer = dbTimer(meterRegistry, "find_user_by_email");
+        this.revokeRefreshTokenTimer = dbTimer(meterRegistry, "revoke_refresh_token");
+        this.findUserByRefreshTokenTimer = dbTimer(meterRegistry, "find_user_by_refresh_token");
+        this.insertRefreshTokenTimer = dbTimer(meterRegistry, "insert_refresh_token");
+        this.unknownEmailCounter = signInFailedCounter(meterRegistry, "unknown_email");
+        this.deletedUserCounter = signInFailedCounter(meterRegistry, "deleted");
+        this.badPasswordCounter = signInFailedCounter(meterRegistry, "bad_password");
     }
 
     @Override
     public SignInResponse signIn(SignInRequest request) {
         // 사용자 조회
-        User user = userRepository.findByEmail(request.email())
-                .orElseThrow(() -> new InvalidCredentialsException());
+        User user = timed(findUserByEmailTimer, () -> userRepository.findByEmail(request.email()))
+                .orElseThrow(() -> {
+                    unknownEmailCounter.increment();
+                    return new InvalidCredentialsException();
+                });
 
         // 소프트 삭제된 사용자 체크
         if (user.isDeleted()) {
+            deletedUserCounter.increment();
             throw new InvalidCredentialsException("삭제된 계정입니다.");
         }
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!timed(passwordMatchTimer, () -> passwordEncoder.matches(request.password(), user.getPassword()))) {
+            badPasswordCounter.increment();
             throw new InvalidCredentialsException();
         }
 
+        // 설정된 BCrypt 비용이 올라갔으면 로그인 시 알게 된 원문으로 다시 해싱
+        // 엔티티를 수정하지 않고 조건부 UPDATE 로 반영 (동시 로그인이 409로 실패하지 않도록)
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            userRepository.rehashPassword(user.getId(), user.getPassword(), passwordEncoder.encode(request.password()));
+        }
+
         // JWT 토큰 생성
         String accessToken = generateAccessToken(user);
         String refreshToken = generateRefreshToken(user);
@@ -81,16 +144,6 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public User signUp(SignUpRequest request) {
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.email())) {
-            throw new DuplicateEmailException(request.email());
-        }
-
-        // 닉네임 중복 체크
-        if (userRepository.existsByNickname(request.nickname())) {
-            throw new DuplicateEmailException("이미 사용 중인 닉네임입니다: " + request.nickname());
-        }
-
         // 새 사용자 생성
         User newUser = new User();
         newUser.setEmail(request.email());
@@ -98,18 +151,54 @@ public class AuthServiceImpl implements AuthService {
         newUser.setNickname(request.nickname());
         newUser.setRole(UserRole.USER); // 기본 역할은 USER
 
-        // 사용자 저장
-        return userRepository.save(newUser);
+        // 사전 중복 조회 없이 바로 저장하고 유니크 제약 위반으로 중복을 판단
+        // (조회 2회가 줄고, 동시 가입 시에도 DB가 하나만 허용)
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e, request);
+        }
+
+        // 미존재로 부정 캐시된 이메일 무효화
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser.getId(), savedUser.getNickname(), savedUser.getEmail()));
+        return savedUser;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvailabilityResponse checkAvailability(String nickname) {
+        return new AvailabilityResponse(signUpAvailabilityIndex.isNicknameAvailable(nickname));
+    }
+
+    // 위반된 유니크 제약 조건 이름으로 이메일/닉네임 중복 구분
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e, SignUpRequest request) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : String.valueOf(e.getMostSpecificCause().getMessage());
+        constraint = constraint.toLowerCase(Locale.ROOT);
+
+        if (constraint.contains(User.UK_EMAIL)) {
+            return new DuplicateEmailException(request.email());
+        }
+        if (constraint.contains(User.UK_NICKNAME)) {
+            return new DuplicateNicknameException(request.nickname());
+        }
+        return e;
     }
 
     @Override
     public void signOut(String accessToken) {
         try {
-            // 토큰에서 사용자 이메일 추출
-            String email = getEmailFromToken(accessToken);
-            
+            // 토큰을 한 번 파싱하여 jti/만료 시각/이메일 추출
+            Claims claims = jwtUtil.parseClaims(accessToken);
+
+            // 액세스 토큰은 만료 전까지 사용할 수 없도록 무효화 목록에 추가
+            accessTokenDenylist.revoke(claims.getId(), claims.getExpiration());
+
             // 사용자 조회
-            User user = userRepository.findByEmail(email)
+            User user = userRepository.findByEmail(claims.getSubject())
                     .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
 
             // 해당 사용자의 모든 리프레시 토큰 무효화
@@ -123,25 +212,25 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public RefreshTokenResponse refreshToken(RefreshTokenRequest request) {
-        // 리프레시 토큰 조회
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(request.refreshToken())
-                .orElseThrow(() -> new InvalidCredentialsException("유효하지 않은 리프레시 토큰입니다."));
-
-        // 토큰 유효성 검증
-        if (!refreshToken.isValid()) {
+        // 유효한 토큰일 때만 무효화하는 조건부 UPDATE - 영향 행 수로 성공 여부를 판단
+        // (조회 후 검사/저장 사이의 경쟁이 없어 동시 갱신 시 하나의 요청만 성공)
+        // 토큰은 다이제스트로만 저장되므로 요청 토큰도 해시 후 조회
+        byte[] tokenHash = RefreshToken.hash(request.refreshToken());
+        int revoked = timed(revokeRefreshTokenTimer,
+                () -> refreshTokenRepository.revokeIfValid(tokenHash, LocalDateTime.now()));
+        if (revoked == 0) {
+            // 실패 사유 구분은 실패 경로에서만 조회
+            refreshTokenRepository.findByTokenHash(tokenHash)
+                    .orElseThrow(() -> new InvalidCredentialsException("유효하지 않은 리프레시 토큰입니다."));
             throw new TokenExpiredException("리프레시");
         }
 
         // 사용자 조회
-        User user = userRepository.findById(refreshToken.getUserId())
+        User user = timed(findUserByRefreshTokenTimer, () -> userRepository.findByRefreshTokenHash(tokenHash))
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
 
-        // 새로운 액세스 토큰 생성
+        // 새로운 액세스 토큰과 리프레시 토큰 생성 (같은 트랜잭션에서 저장)
         String newAccessToken = generateAccessToken(user);
-        
-        // 새로운 리프레시 토큰 생성 (기존 토큰 무효화)
-        refreshToken.revoke();
-        refreshTokenRepository.save(refreshToken);
         String newRefreshToken = generateRefreshToken(user);
 
         return new RefreshTokenResponse(
@@ -153,14 +242,8 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public String generateAccessToken(User user) {
-        // JwtUtil을 사용하여 액세스 토큰 생성
-        return jwtUtil.generateToken(new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                java.util.Collections.singletonList(
-                        new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-                )
-        ));
+        // JwtUtil을 사용하여 액세스 토큰 생성 (사용자 ID, 역할, 보안 버전 클레임 포함)
+        return jwtUtil.generateToken(new CustomUserPrincipal(user));
     }
 
     @Override
@@ -171,9 +254,14 @@ public class AuthServiceImpl implements AuthService {
         // 만료 시간 설정 (7일 후)
         LocalDateTime expiryDate = LocalDateTime.now().plusDays(REFRESH_TOKEN_EXPIRY_DAYS);
         
-        // 리프레시 토큰 엔티티 생성 및 저장
+        // 리프레시 토큰 엔티티 생성 및 저장 (DB에는 다이제스트만 저장, 원문은 클라이언트에만 전달)
         RefreshToken refreshToken = new RefreshToken(tokenValue, user.getId(), expiryDate);
-        refreshTokenRepository.save(refreshToken);
+        timed(insertRefreshTokenTimer, () -> refreshTokenRepository.save(refreshToken));
+
+        // 세션 수 제한 초과 시 가장 오래된 세션부터 무효화 (새 토큰 저장 직후 단일 UPDATE)
+        if (maxSessionsPerUser > 0) {
+            refreshTokenRepository.revokeSessionsBeyondLimit(user.getId(), maxSessionsPerUser, LocalDateTime.now());
+        }
         
         return tokenValue;
     }
@@ -181,7 +269,9 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public boolean validateToken(String token) {
         try {
-            return !jwtUtil.isTokenExpired(token);
+            // 한 번 파싱한 클레임으로 만료 여부까지 확인
+            Claims claims = jwtUtil.parseClaims(token);
+            return !jwtUtil.isTokenExpired(claims);
         } catch (Exception e) {
             return false;
         }
@@ -191,4 +281,27 @@ public class AuthServiceImpl implements AuthService {
     public String getEmailFromToken(String token) {
         return jwtUtil.getUsernameFromToken(token);
     }
-}
\ No newline at end of file
+
+    private static <T> T timed(Timer timer, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer dbTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.db")
+                .description("인증 처리 중 DB 호출 시간")
+                .tag("op", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter signInFailedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.signin.failed")
+                .description("로그인 실패 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
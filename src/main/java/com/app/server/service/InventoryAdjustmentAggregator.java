@@ -0,0 +1,312 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.exception.BadRequestException;
+import com.app.server.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 SKU 수량 조정을 모아서 한 번에 반영하는 쓰기 지연(write-behind) 집계기
+ *
+ * - 상품별 누산기(Accumulator)에 조정 요청을 쌓고, flush-interval 마다 또는 max-batch-ops 건이 모이면
+ *   합산한 증감량을 InventoryService.adjustQuantity 한 번(조건부 UPDATE 한 트랜잭션)으로 반영한다.
+ * - 호출자는 자신의 조정이 포함된 트랜잭션이 커밋된 뒤에야 응답을 받는다 (커밋 전 확인 응답 없음).
+ * - 음수 재고 검사는 마지막으로 커밋된 수량(로컬 하한)으로 먼저 수행하여 함께 반영해도 안전한 요청만 합산하고,
+ *   하한을 넘는 요청은 개별 조정으로 DB가 판단하게 한다. 다른 경로의 변경으로 합산 반영이 실패하면
+ *   모든 요청을 개별 조정으로 다시 처리하므로 결과는 개별 호출과 같다.
+ * - 합계가 int 범위를 넘는 요청도 개별 조정으로 처리하고, 반영 중 예상치 못한 오류가 나도 꺼낸 요청은 모두 완료(실패) 처리한다.
+ *   호출자는 response-timeout 까지만 기다린다.
+ * - 조정이 없는 상품(없는 ID 포함)의 누산기는 idle-eviction 후 제거하고, 조회/반영에 실패한 누산기는 바로 제거한다.
+ * - inventory.adjustment-aggregation.enabled=false(기본)이면 바로 InventoryService 로 위임한다.
+ */
+@Slf4j
+@Component
+public class InventoryAdjustmentAggregator {
+
+    // 아직 DB에서 수량을 읽지 않았거나 다른 경로의 변경으로 신뢰할 수 없는 상태
+    private static final long UNKNOWN = Long.MIN_VALUE;
+
+    private final InventoryService inventoryService;
+    private final boolean enabled;
+    private final int maxBatchOps;
+    private final Duration responseTimeout;
+    private final long idleEvictionNanos;
+    private final ConcurrentHashMap<Long, Accumulator> accumulators = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService flushExecutor;
+    private final DistributionSummary batchSize;
+    private final Counter fallbacks;
+
+    public InventoryAdjustmentAggregator(InventoryService inventoryService, MeterRegistry meterRegistry,
+                                         @Value("${inventory.adjustment-aggregation.enabled:false}") boolean enabled,
+                                         @Value("${inventory.adjustment-aggregation.flush-interval:20ms}") Duration flushInterval,
+                                         @Value("${inventory.adjustment-aggregation.max-batch-ops:256}") int maxBatchOps,
+                                         @Value("${inventory.adjustment-aggregation.flush-threads:2}") int flushThreads,
+                                         @Value("${inventory.adjustment-aggregation.response-timeout:5s}") Duration responseTimeout,
+                                         @Value("${inventory.adjustment-aggregation.idle-eviction:1m}") Duration idleEviction) {
+        this.inventoryService = inventoryService;
+        this.enabled = enabled;
+        this.maxBatchOps = Math.max(1, maxBatchOps);
+        this.responseTimeout = responseTimeout;
+        this.idleEvictionNanos = idleEviction.toNanos();
+        this.batchSize = DistributionSummary.builder("inventory.adjustment.batch_size")
+                .description("한 번의 UPDATE 로 합산 반영된 조정 요청 수")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("inventory.adjustment.fallbacks")
+                .description("합산 반영 실패로 개별 조정으로 다시 처리한 배치 수")
+                .register(meterRegistry);
+
+        if (enabled) {
+            this.flushExecutor = Executors.newFixedThreadPool(Math.max(1, flushThreads), new FlushThreadFactory());
+            this.ticker = Executors.newSingleThreadScheduledExecutor(new FlushThreadFactory());
+            long intervalNanos = flushInterval.toNanos();
+            ticker.scheduleWithFixedDelay(this::flushAll, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        } else {
+            this.flushExecutor = null;
+            this.ticker = null;
+        }
+    }
+
+    /**
+     * 재고 수량 조정 (집계 사용 시 반영 트랜잭션이 커밋될 때까지 대기)
+     * @param id 재고 ID
+     * @param adjustment 증감량
+     * @return 조정이 반영된 직후의 재고 (같은 배치의 다른 조정도 포함된 상태)
+     * @throws BadRequestException 재고 부족 또는 수량 상한 초과
+     * @throws ServiceBusyException response-timeout 안에 반영되지 않음 (이후 반영될 수 있음)
+     */
+    public Inventory adjustQuantity(Long id, Integer adjustment) {
+        if (!enabled) {
+            return inventoryService.adjustQuantity(id, adjustment);
+        }
+
+        PendingAdjustment pending = new PendingAdjustment(adjustment);
+        while (true) {
+            Accumulator accumulator = accumulators.computeIfAbsent(id, Accumulator::new);
+            int queued = accumulator.add(pending);
+            if (queued < 0) {
+                // 제거 중인 누산기: 맵에서 빠질 때까지 새 누산기로 다시 시도
+                accumulators.remove(id, accumulator);
+                continue;
+            }
+            if (queued >= maxBatchOps) {
+                flushExecutor.execute(() -> flush(accumulator));
+            }
+            break;
+        }
+
+        try {
+            return pending.result().orTimeout(responseTimeout.toNanos(), TimeUnit.NANOSECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new ServiceBusyException("재고 조정 반영이 지연되고 있습니다. 반영 여부를 확인한 뒤 다시 시도해 주세요.", 1);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 대기 중인 조정이 있는 상품은 반영, 유휴 상태가 idle-eviction 을 넘은 누산기는 제거
+    private void flushAll() {
+        long now = System.nanoTime();
+        accumulators.values().forEach(accumulator -> {
+            if (accumulator.hasPending()) {
+                flushExecutor.execute(() -> flush(accumulator));
+            } else if (accumulator.retireIfIdle(now, idleEvictionNanos)) {
+                accumulators.remove(accumulator.id, accumulator);
+            }
+        });
+    }
+
+    // 조회/반영에 실패한 상품(없거나 삭제된 ID 등)은 유휴 시간을 기다리지 않고 제거
+    private void evictFailed(Accumulator accumulator) {
+        if (accumulator.retireIfIdle(System.nanoTime(), 0)) {
+            accumulators.remove(accumulator.id, accumulator);
+        }
+    }
+
+    boolean isTracking(Long id) {
+        return accumulators.containsKey(id);
+    }
+
+    // 같은 상품은 한 번에 한 스레드만 반영 (진행 중이면 다음 주기에 처리)
+    private void flush(Accumulator accumulator) {
+        if (!accumulator.flushLock.tryLock()) {
+            return;
+        }
+        List<PendingAdjustment> batch = List.of();
+        try {
+            batch = accumulator.drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            if (accumulator.knownQuantity == UNKNOWN) {
+                try {
+                    accumulator.knownQuantity = inventoryService.findInventoryById(accumulator.id).getQuantity();
+                } catch (RuntimeException e) {
+                    evictFailed(accumulator);
+                    batch.forEach(pending -> pending.result().completeExceptionally(e));
+                    return;
+                }
+            }
+
+            // 로컬 하한 안에서 도착 순서대로 합산, 하한을 넘거나 합계가 int 범위를 넘는 요청은 개별 조정으로 DB가 판단
+            List<PendingAdjustment> coalesced = new ArrayList<>(batch.size());
+            List<PendingAdjustment> deferred = new ArrayList<>();
+            long net = 0;
+            for (PendingAdjustment pending : batch) {
+                long candidate = net + pending.delta();
+                if (candidate == (int) candidate && accumulator.knownQuantity + candidate >= 0) {
+                    net = candidate;
+                    coalesced.add(pending);
+                } else {
+                    deferred.add(pending);
+                }
+            }
+
+            if (!coalesced.isEmpty()) {
+                apply(accumulator, coalesced, (int) net);
+            }
+            for (PendingAdjustment pending : deferred) {
+                apply(accumulator, List.of(pending), pending.delta());
+            }
+        } catch (RuntimeException e) {
+            log.error("재고 조정 반영 중 오류: id={}", accumulator.id, e);
+            accumulator.knownQuantity = UNKNOWN;
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        } finally {
+            // 어떤 경로로 빠져나가도 꺼낸 요청의 호출자가 무한히 기다리지 않도록 미완료 요청은 실패 처리
+            if (batch.stream().anyMatch(pending -> !pending.result().isDone())) {
+                IllegalStateException unapplied = new IllegalStateException("재고 조정이 반영되지 않았습니다: id=" + accumulator.id);
+                batch.forEach(pending -> pending.result().completeExceptionally(unapplied));
+            }
+            accumulator.flushLock.unlock();
+        }
+    }
+
+    private void apply(Accumulator accumulator, List<PendingAdjustment> adjustments, int delta) {
+        try {
+            Inventory inventory = inventoryService.adjustQuantity(accumulator.id, delta);
+            accumulator.knownQuantity = inventory.getQuantity();
+            batchSize.record(adjustments.size());
+            adjustments.forEach(pending -> pending.result().complete(inventory));
+        } catch (BadRequestException e) {
+            accumulator.knownQuantity = UNKNOWN;
+            if (adjustments.size() == 1) {
+                adjustments.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // 다른 노드/경로의 변경으로 로컬 하한이 틀린 경우: 개별 조정으로 정확한 결과 반환
+            fallbacks.increment();
+            log.debug("재고 합산 반영 실패, 개별 조정으로 처리합니다: id={}, ops={}", accumulator.id, adjustments.size());
+            for (PendingAdjustment pending : adjustments) {
+                apply(accumulator, List.of(pending), pending.delta());
+            }
+        } catch (RuntimeException e) {
+            accumulator.knownQuantity = UNKNOWN;
+            evictFailed(accumulator);
+            adjustments.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    // 종료 시 대기 중인 조정을 모두 반영한 뒤 스레드 정리
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        ticker.shutdown();
+        ticker.awaitTermination(5, TimeUnit.SECONDS);
+        flushAll();
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private record PendingAdjustment(int delta, CompletableFuture<Inventory> result) {
+        PendingAdjustment(int delta) {
+            this(delta, new CompletableFuture<>());
+        }
+    }
+
+    // 상품별 누산기: 대기 목록/제거 상태는 자체 모니터로, 하한(knownQuantity)은 flushLock 으로 보호
+    private static final class Accumulator {
+
+        private final Long id;
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private List<PendingAdjustment> pending = new ArrayList<>();
+        private long knownQuantity = UNKNOWN;
+        private long lastAddedNanos = System.nanoTime();
+        private boolean retired;
+
+        private Accumulator(Long id) {
+            this.id = id;
+        }
+
+        // @return 추가 후 대기 건수, 이미 제거된 누산기면 -1
+        synchronized int add(PendingAdjustment adjustment) {
+            if (retired) {
+                return -1;
+            }
+            pending.add(adjustment);
+            lastAddedNanos = System.nanoTime();
+            return pending.size();
+        }
+
+        // 대기 중인 조정이 없고 idleNanos 동안 추가가 없었으면 제거 상태로 전환 (이후 add 는 -1)
+        synchronized boolean retireIfIdle(long now, long idleNanos) {
+            if (!retired && pending.isEmpty() && now - lastAddedNanos >= idleNanos) {
+                retired = true;
+            }
+            return retired;
+        }
+
+        synchronized boolean hasPending() {
+            return !pending.isEmpty();
+        }
+
+        synchronized List<PendingAdjustment> drain() {
+            if (pending.isEmpty()) {
+                return List.of();
+            }
+            List<PendingAdjustment> batch = pending;
+            pending = new ArrayList<>();
+            return batch;
+        }
+    }
+
+    private static final class FlushThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "inventory-flush-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.domain.Inventory.StockState;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 재고가 등록/수정/삭제되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 재고 통계 카운터(InventoryStatsService), 저재고 색인(InventoryLowStockIndex),
+ * 검색 색인(InventorySearchIndex), QR 조회 캐시(InventoryQrCodeCache)에 반영된다.
+ * @param inventoryId 재고 ID
+ * @param itemName 변경 후 상품명
+ * @param itemCode 변경 후 상품 코드
+ * @param qrCodes 조회 결과가 달라진 QR 코드 (QR 코드 변경 시 이전/이후 모두 포함)
+ * @param before 변경 전 상태 (신규 등록이면 null)
+ * @param after 변경 후 상태 (삭제면 null)
+ */
+public record InventoryChangedEvent(Long inventoryId, String itemName, String itemCode, Set<String> qrCodes,
+                                    StockState before, StockState after) {
+
+    public static InventoryChangedEvent created(Inventory inventory) {
+        return new InventoryChangedEvent(inventory.getId(), inventory.getItemName(), inventory.getItemCode(),
+                qrCodes(inventory.getQrCode()), null, inventory.currentStockState());
+    }
+
+    // 조회 시점 상태와 현재 엔티티 상태 비교 (저장 전에 생성)
+    public static InventoryChangedEvent changed(Inventory inventory) {
+        return new InventoryChangedEvent(inventory.getId(), inventory.getItemName(), inventory.getItemCode(),
+                qrCodes(inventory.persistedQrCode(), inventory.getQrCode()),
+                inventory.persistedStockState(), inventory.currentStockState());
+    }
+
+    // 조건부 UPDATE 후 다시 조회한 재고와 증감량으로 이전 상태 복원
+    public static InventoryChangedEvent adjusted(Inventory inventory, int delta) {
+        StockState after = inventory.currentStockState();
+        StockState before = new StockState(after.location(), after.quantity() - delta, after.reorderPoint());
+        return new InventoryChangedEvent(inventory.getId(), inventory.getItemName(), inventory.getItemCode(),
+                qrCodes(inventory.getQrCode()), before, after);
+    }
+
+    private static Set<String> qrCodes(String... qrCodes) {
+        Set<String> affected = new HashSet<>();
+        for (String qrCode : qrCodes) {
+            if (qrCode != null) {
+                affected.add(qrCode);
+            }
+        }
+        return Set.copyOf(affected);
+    }
+}
@@ -0,0 +1,284 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.exception.BadRequestException;
+import com.app.server.mapper.InventoryMapper;
+import com.app.server.repository.InventoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 대량 등록 (NDJSON / CSV 스트리밍)
+ *
+ * - 요청 본문을 한 줄씩 읽어 처리하므로 전체를 메모리에 올리지 않는다 (chunk-size 행만 보관).
+ * - 상품 코드 중복은 청크당 IN 조회 한 번으로 확인하고, 청크마다 한 트랜잭션에서 persist 후 flush 한다.
+ *   ID는 풀링 시퀀스로 미리 확보되므로 INSERT 는 hibernate.jdbc.batch_size 단위 JDBC 배치로 전송된다.
+ * - 동시 등록 등으로 청크 INSERT 가 실패하면 해당 청크만 행 단위로 다시 넣어 실패한 행을 정확히 보고한다.
+ */
+@Slf4j
+@Service
+public class InventoryImportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final List<String> CSV_COLUMNS = List.of("itemName", "itemCode", "quantity", "location", "qrCode");
+    // 생략 가능한 열
+    private static final String CSV_REORDER_POINT = "reorderPoint";
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryMapper inventoryMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public InventoryImportService(InventoryRepository inventoryRepository, InventoryMapper inventoryMapper,
+                                  EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ObjectMapper objectMapper, Validator validator,
+                                  @Value("${inventory.import.chunk-size:1000}") int chunkSize,
+                                  @Value("${inventory.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryMapper = inventoryMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * 입력 스트림의 재고를 청크 단위로 등록
+     * 이미 커밋된 청크는 이후 행이 실패해도 유지된다.
+     * @param body 요청 본문 (UTF-8)
+     * @param format NDJSON(한 줄에 CreateRequest JSON 하나) 또는 CSV(첫 줄 헤더)
+     * @return 처리 결과와 행별 오류 (최대 max-reported-errors 건)
+     */
+    public Inventory.ImportResponse importInventories(InputStream body, Format format) throws IOException {
+        ImportReport report = new ImportReport(maxReportedErrors);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Map<String, Integer> csvHeader = null;
+            long lineNumber = 0;
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && csvHeader == null) {
+                    csvHeader = parseCsvHeader(line);
+                    continue;
+                }
+
+                report.received++;
+                Inventory.CreateRequest request;
+                try {
+                    request = format == Format.CSV ? parseCsvRow(line, csvHeader) : objectMapper.readValue(line, Inventory.CreateRequest.class);
+                } catch (JsonProcessingException | IllegalArgumentException e) {
+                    report.fail(lineNumber, null, "행을 해석할 수 없습니다: " + rootMessage(e));
+                    continue;
+                }
+
+                Set<ConstraintViolation<Inventory.CreateRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    report.fail(lineNumber, request.itemCode(), violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining(", ")));
+                    continue;
+                }
+
+                chunk.add(new ImportRow(lineNumber, request));
+                if (chunk.size() >= chunkSize) {
+                    insertChunk(chunk, report);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                insertChunk(chunk, report);
+            }
+        }
+
+        log.info("재고 대량 등록 완료: received={}, imported={}, failed={}", report.received, report.imported, report.failed);
+        return report.toResponse();
+    }
+
+    private void insertChunk(List<ImportRow> chunk, ImportReport report) {
+        // 파일 안 중복은 처음 나온 행만, DB에 이미 있는 상품 코드는 제외 (청크당 조회 한 번)
+        Set<String> existing = new HashSet<>(inventoryRepository.findExistingItemCodes(
+                chunk.stream().map(row -> row.request().itemCode()).collect(Collectors.toSet())));
+        Set<String> seen = new HashSet<>();
+        List<ImportRow> rows = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            String itemCode = row.request().itemCode();
+            if (existing.contains(itemCode) || !seen.add(itemCode)) {
+                report.fail(row.line(), itemCode, "Item code already exists: " + itemCode);
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(rows));
+            report.imported += rows.size();
+        } catch (PersistenceException | DataAccessException e) {
+            // 청크 전체가 롤백되었으므로 행 단위로 다시 넣어 실패한 행만 보고
+            log.debug("재고 대량 등록 청크 실패, 행 단위로 다시 처리합니다: {}", rootMessage(e));
+            for (ImportRow row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(row)));
+                    report.imported++;
+                } catch (PersistenceException | DataAccessException rowFailure) {
+                    report.fail(row.line(), row.request().itemCode(), "저장할 수 없습니다: " + rootMessage(rowFailure));
+                }
+            }
+        }
+    }
+
+    // flush 로 배치 INSERT 를 실행하고 영속성 컨텍스트를 비워 청크 간 메모리가 쌓이지 않게 함
+    // 재고 통계 이벤트는 청크가 커밋된 경우에만 반영된다
+    private void persist(List<ImportRow> rows) {
+        for (ImportRow row : rows) {
+            Inventory inventory = inventoryMapper.toEntity(row.request());
+            entityManager.persist(inventory);
+            eventPublisher.publishEvent(InventoryChangedEvent.created(inventory));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = parseCsvLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim(), i);
+        }
+        if (!header.keySet().containsAll(CSV_COLUMNS)) {
+            throw new BadRequestException("CSV 헤더에는 " + String.join(",", CSV_COLUMNS) + " 열이 필요합니다");
+        }
+        return header;
+    }
+
+    private static Inventory.CreateRequest parseCsvRow(String line, Map<String, Integer> header) {
+        List<String> values = parseCsvLine(line);
+        return new Inventory.CreateRequest(
+                column(values, header, "itemName"),
+                column(values, header, "itemCode"),
+                intColumn(values, header, "quantity"),
+                column(values, header, "location"),
+                column(values, header, "qrCode"),
+                intColumn(values, header, CSV_REORDER_POINT));
+    }
+
+    private static String column(List<String> values, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        return index != null && index < values.size() ? values.get(index) : null;
+    }
+
+    private static Integer intColumn(List<String> values, Map<String, Integer> header, String name) {
+        String value = column(values, header, name);
+        return value == null || value.isBlank() ? null : Integer.valueOf(value.trim());
+    }
+
+    // RFC 4180 형식의 한 줄 (큰따옴표 안의 쉼표와 "" 이스케이프 지원, 필드 안 줄바꿈은 지원하지 않음)
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String rootMessage(Exception e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private record ImportRow(long line, Inventory.CreateRequest request) {
+    }
+
+    // 처리 결과 누적 (오류 목록은 상한까지만 보관하고 건수는 모두 집계)
+    private static final class ImportReport {
+
+        private final int maxErrors;
+        private final List<Inventory.ImportError> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long failed;
+
+        private ImportReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String itemCode, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new Inventory.ImportError(line, itemCode, message));
+            }
+        }
+
+        private Inventory.ImportResponse toResponse() {
+            return new Inventory.ImportResponse(received, imported, failed, errors.size() < failed, errors);
+        }
+    }
+}
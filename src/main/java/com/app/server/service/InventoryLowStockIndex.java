@@ -0,0 +1,148 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory.StockState;
+import com.app.server.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 재주문 기준 이하인 재고만 보관하는 저재고 색인
+ *
+ * - 부족분(수량 - 재주문 기준)이 작은 순으로 정렬되어 있어 조회 비용은 전체 상품 수가 아닌 저재고 상품 수에 비례한다.
+ * - 재고 변경은 커밋 후 InventoryChangedEvent 로 반영하고, 저재고 진입/해제 시 InventoryThresholdCrossedEvent 를 발행한다.
+ * - 다른 노드의 변경은 reconcile-interval 마다 부분 인덱스(idx_inventory_low_stock) 조회로 맞춘다.
+ *   보정 중에 이벤트로 바뀐 항목은 덮어쓰지 않으며, 남은 오차는 조회 시 DB 값으로 다시 걸러진다.
+ */
+@Slf4j
+@Component
+public class InventoryLowStockIndex {
+
+    private static final Comparator<Entry> MOST_URGENT_FIRST = Comparator
+            .comparingLong(Entry::shortfall)
+            .thenComparing(Entry::id);
+
+    private final InventoryRepository inventoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> sorted = new ConcurrentSkipListSet<>(MOST_URGENT_FIRST);
+    private final Counter entered;
+    private final Counter cleared;
+
+    public InventoryLowStockIndex(InventoryRepository inventoryRepository, ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry) {
+        this.inventoryRepository = inventoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.entered = Counter.builder("inventory.low_stock.crossings")
+                .tag("direction", "entered")
+                .register(meterRegistry);
+        this.cleared = Counter.builder("inventory.low_stock.crossings")
+                .tag("direction", "cleared")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 저재고 재고 ID (부족분이 큰 순서)
+     */
+    public List<Long> lowStockIds() {
+        return sorted.stream().map(Entry::id).toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        StockState after = event.after();
+        boolean wasLow = event.before() != null && event.before().lowStock();
+        boolean isLow = after != null && after.lowStock();
+
+        update(event.inventoryId(), isLow ? new Entry(event.inventoryId(), after.quantity(), after.reorderPoint()) : null);
+
+        if (wasLow != isLow) {
+            (isLow ? entered : cleared).increment();
+            eventPublisher.publishEvent(new InventoryThresholdCrossedEvent(event.inventoryId(),
+                    after != null ? after.quantity() : 0,
+                    after != null ? after.reorderPoint() : 0,
+                    isLow));
+        }
+    }
+
+    // 기동 시 초기 적재와 주기적 보정 (저재고 상품만 조회)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${inventory.low-stock.reconcile-interval:1m}",
+               initialDelayString = "${inventory.low-stock.reconcile-interval:1m}")
+    public synchronized void reconcile() {
+        Map<Long, Entry> before = new HashMap<>(entries);
+
+        Map<Long, Entry> actual = new HashMap<>();
+        for (InventoryRepository.LowStockLevel level : inventoryRepository.findLowStockLevels()) {
+            actual.put(level.getId(), new Entry(level.getId(), level.getQuantity(), level.getReorderPoint()));
+        }
+
+        // 조회 이후 이벤트로 바뀐 항목(현재 값이 조회 전과 다른 항목)은 이벤트 쪽이 더 최신이므로 유지
+        int corrected = 0;
+        for (Map.Entry<Long, Entry> level : actual.entrySet()) {
+            if (!level.getValue().equals(before.get(level.getKey()))
+                    && replaceIfUnchanged(level.getKey(), before.get(level.getKey()), level.getValue())) {
+                corrected++;
+            }
+        }
+        for (Map.Entry<Long, Entry> stale : before.entrySet()) {
+            if (!actual.containsKey(stale.getKey()) && replaceIfUnchanged(stale.getKey(), stale.getValue(), null)) {
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            log.debug("저재고 색인 보정: {}건 (현재 {}건)", corrected, entries.size());
+        }
+    }
+
+    // 같은 상품의 정렬 집합 갱신은 entries.compute 로 직렬화
+    private void update(Long id, Entry entry) {
+        entries.compute(id, (key, current) -> {
+            if (current != null) {
+                sorted.remove(current);
+            }
+            if (entry != null) {
+                sorted.add(entry);
+            }
+            return entry;
+        });
+    }
+
+    private boolean replaceIfUnchanged(Long id, Entry expected, Entry replacement) {
+        boolean[] replaced = {false};
+        entries.compute(id, (key, current) -> {
+            if (current != expected) {
+                return current;
+            }
+            if (current != null) {
+                sorted.remove(current);
+            }
+            if (replacement != null) {
+                sorted.add(replacement);
+            }
+            replaced[0] = true;
+            return replacement;
+        });
+        return replaced[0];
+    }
+
+    private record Entry(Long id, int quantity, int reorderPoint) {
+
+        long shortfall() {
+            return (long) quantity - reorderPoint;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.mapper.InventoryMapper;
+import com.app.server.repository.InventoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * QR 스캔용 재고 조회 캐시 (QR 코드 → 응답 DTO, read-through)
+ *
+ * - 미스일 때만 읽기 전용 트랜잭션으로 조회해 DTO 로 변환한 뒤 보관하므로, 적중 시에는 JPA 세션을 열지 않는다.
+ * - 없거나 삭제된 QR 코드도 negative-ttl 동안 캐시 (존재하지 않는 코드를 반복 스캔해도 DB 조회는 한 번)
+ * - 같은 노드의 등록/수정/수량 조정/삭제는 커밋 직후 InventoryChangedEvent 의 QR 코드만 무효화한다.
+ *   로딩 중인 항목의 무효화는 로딩이 끝날 때까지 기다렸다가 지우므로 이전 값이 남지 않는다.
+ * - 다른 노드의 변경은 TTL 만료 시 반영되므로 노드 간 최대 불일치 시간 = ttl
+ */
+@Component
+public class InventoryQrCodeCache {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryMapper inventoryMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer scanTimer;
+
+    // inventory.qr-cache.enabled=false 이면 null (항상 DB 조회)
+    private final Cache<String, Optional<Inventory.Response>> cache;
+
+    public InventoryQrCodeCache(InventoryRepository inventoryRepository,
+                                InventoryMapper inventoryMapper,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${inventory.qr-cache.enabled:true}") boolean cacheEnabled,
+                                @Value("${inventory.qr-cache.max-size:100000}") long maxSize,
+                                @Value("${inventory.qr-cache.ttl:30s}") Duration ttl,
+                                @Value("${inventory.qr-cache.negative-ttl:5s}") Duration negativeTtl) {
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryMapper = inventoryMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 백분위(p99)는 management.metrics.distribution 설정으로 노출
+        this.scanTimer = Timer.builder("inventory.scan")
+                .description("QR 스캔 조회 시간 (캐시 미스 시 DB 조회 포함)")
+                .register(meterRegistry);
+        if (cacheEnabled) {
+            Cache<String, Optional<Inventory.Response>> qrCodeCache = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfter(new ScanExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                    .recordStats()
+                    .build();
+            // cache.gets{result=hit|miss} 등 기본 지표와 함께 누적 적중률을 바로 볼 수 있게 등록
+            this.cache = CaffeineCacheMetrics.monitor(meterRegistry, qrCodeCache, "inventoryQrCode");
+            Gauge.builder("inventory.scan.cache.hit.ratio", qrCodeCache, c -> c.stats().hitRate())
+                    .description("QR 스캔 캐시 적중률")
+                    .register(meterRegistry);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * @return QR 코드에 해당하는 재고 (없거나 삭제되었으면 empty)
+     */
+    public Optional<Inventory.Response> scan(String qrCode) {
+        return scanTimer.record(() -> cache != null
+                ? cache.get(qrCode, this::loadFromDatabase)
+                : loadFromDatabase(qrCode));
+    }
+
+    // 재고 변경 커밋 후 영향받은 QR 코드만 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        if (cache != null) {
+            cache.invalidateAll(event.qrCodes());
+        }
+    }
+
+    private Optional<Inventory.Response> loadFromDatabase(String qrCode) {
+        return readOnlyTransaction.execute(status -> inventoryRepository.findByQrCode(qrCode)
+                .filter(inventory -> !inventory.isDeleted())
+                .map(inventoryMapper::toResponse));
+    }
+
+    // 정상 항목은 ttl, 부정(미존재) 항목은 negative-ttl 후 만료
+    private record ScanExpiry(long ttlNanos, long negativeTtlNanos)
+            implements Expiry<String, Optional<Inventory.Response>> {
+
+        @Override
+        public long expireAfterCreate(String qrCode, Optional<Inventory.Response> inventory, long currentTime) {
+            return inventory.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String qrCode, Optional<Inventory.Response> inventory,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(qrCode, inventory, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String qrCode, Optional<Inventory.Response> inventory,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
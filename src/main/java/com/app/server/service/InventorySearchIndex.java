@@ -0,0 +1,121 @@
+package com.app.server.service;
+
+import com.app.server.repository.InventoryRepository;
+import com.app.server.support.TrigramIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 재고 검색 색인 (상품명, 상품 코드, 위치의 트라이그램 역색인)
+ *
+ * - 기동 시 재고 테이블을 스트리밍으로 읽어 만들고, 이후 변경은 커밋 후 InventoryChangedEvent 로 반영한다.
+ * - 다른 노드의 변경은 rebuild-interval 마다 새 색인을 만들어 교체한다. 재생성 중 들어온 변경은 따로 기록해 두었다가
+ *   교체 직전에 새 색인에 다시 적용하므로 유실되지 않는다.
+ * - 초기 적재 전에는 사용할 수 없으므로 호출 측은 isReady 를 확인한다.
+ */
+@Slf4j
+@Component
+public class InventorySearchIndex {
+
+    private final InventoryRepository inventoryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer searchTimer;
+    private final Object writeMonitor = new Object();
+
+    private volatile TrigramIndex index = new TrigramIndex();
+    private volatile boolean ready = false;
+    // 재생성 중에만 null 이 아님 (writeMonitor 로 보호)
+    private List<InventoryChangedEvent> pendingDuringRebuild;
+
+    public InventorySearchIndex(InventoryRepository inventoryRepository, PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.inventoryRepository = inventoryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.searchTimer = Timer.builder("inventory.search.query")
+                .description("검색 색인 조회 시간")
+                .register(meterRegistry);
+        Gauge.builder("inventory.search.index.bytes", this, searchIndex -> searchIndex.index.estimatedBytes())
+                .description("검색 색인 힙 크기 추정치")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("inventory.search.index.documents", this, searchIndex -> searchIndex.index.size())
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return 점수가 높은 순서의 재고 ID (최대 limit 건)
+     */
+    public List<Long> search(String query, int limit) {
+        return searchTimer.record(() -> index.search(query, limit));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        synchronized (writeMonitor) {
+            apply(index, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        }
+    }
+
+    // 기동 시 초기 적재와 주기적 재생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${inventory.search.rebuild-interval:30m}",
+               initialDelayString = "${inventory.search.rebuild-interval:30m}")
+    public synchronized void rebuild() {
+        synchronized (writeMonitor) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        long started = System.nanoTime();
+        TrigramIndex rebuilt = new TrigramIndex();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<InventoryRepository.SearchText> rows = inventoryRepository.streamActiveSearchTexts()) {
+                    rows.forEach(row -> rebuilt.put(row.getId(), row.getItemName(), row.getItemCode(), row.getLocation()));
+                }
+            });
+        } catch (RuntimeException e) {
+            synchronized (writeMonitor) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (writeMonitor) {
+            pendingDuringRebuild.forEach(event -> apply(rebuilt, event));
+            pendingDuringRebuild = null;
+            index = rebuilt;
+        }
+        ready = true;
+        log.info("재고 검색 색인 생성 완료: documents={}, estimatedBytes={}, elapsedMs={}",
+                rebuilt.size(), rebuilt.estimatedBytes(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static void apply(TrigramIndex target, InventoryChangedEvent event) {
+        if (event.after() == null) {
+            target.remove(event.inventoryId());
+        } else {
+            target.put(event.inventoryId(), event.itemName(), event.itemCode(), event.after().location());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.app.server.service;
 
 import com.app.server.domain.Inventory;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +14,8 @@ public interface InventoryService {
     Inventory findInventoryById(Long id);
     Optional<Inventory> findInventoryByItemCode(String itemCode);
     List<Inventory> findAllInventories();
+    CursorPage<Inventory> findInventoryPage(KeysetCursor after, int size);
+    List<Inventory> searchInventories(String query, int limit); // 상품명/상품 코드/위치 부분 일치, 점수순
     List<Inventory> findInventoriesByLocation(String location);
     List<Inventory> findInventoriesByItemName(String itemName);
     
@@ -27,5 +31,6 @@ public interface InventoryService {
     boolean existsByItemCode(String itemCode);
     long getTotalInventoryCount();
     List<Inventory> findLowStockItems(Integer threshold);
+    List<Inventory> findLowStockItems(); // 상품별 재주문 기준 이하 (저재고 색인)
     List<Inventory> findByQrCode(String qrCode);
 }
\ No newline at end of file
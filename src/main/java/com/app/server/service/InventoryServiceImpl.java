@@ -4,21 +4,38 @@ import com.app.server.domain.Inventory;
 import com.app.server.exception.ResourceNotFoundException;
 import com.app.server.exception.BadRequestException;
 import com.app.server.repository.InventoryRepository;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
+import com.app.server.support.RetryOnConflict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class InventoryServiceImpl implements InventoryService {
 
     private final InventoryRepository inventoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InventoryLowStockIndex lowStockIndex;
+    private final InventorySearchIndex searchIndex;
 
-    public InventoryServiceImpl(InventoryRepository inventoryRepository) {
+    public InventoryServiceImpl(InventoryRepository inventoryRepository, ApplicationEventPublisher eventPublisher,
+                                InventoryLowStockIndex lowStockIndex, InventorySearchIndex searchIndex) {
         this.inventoryRepository = inventoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.lowStockIndex = lowStockIndex;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -26,7 +43,12 @@ public class InventoryServiceImpl implements InventoryService {
         if (existsByItemCode(inventory.getItemCode())) {
             throw new BadRequestException("Item code already exists: " + inventory.getItemCode());
         }
-        return inventoryRepository.save(inventory);
+        if (inventoryRepository.existsByQrCode(inventory.getQrCode())) {
+            throw new BadRequestException("QR code already exists: " + inventory.getQrCode());
+        }
+        Inventory savedInventory = inventoryRepository.save(inventory);
+        eventPublisher.publishEvent(InventoryChangedEvent.created(savedInventory));
+        return savedInventory;
     }
 
     @Override
@@ -48,6 +70,29 @@ public class InventoryServiceImpl implements InventoryService {
         return inventoryRepository.findAllActiveOrderByUpdatedAtDesc();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Inventory> findInventoryPage(KeysetCursor after, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<Inventory> rows = after == null
+                ? inventoryRepository.findActivePage(limit)
+                : inventoryRepository.findActivePageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, inventory -> new KeysetCursor(inventory.getUpdatedAt(), inventory.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Inventory> searchInventories(String query, int limit) {
+        // 검색 색인 적재 전에는 상품명 LIKE 조회로 대체
+        if (!searchIndex.isReady()) {
+            return inventoryRepository.findByItemNameContainingIgnoreCase(query).stream()
+                    .filter(inventory -> !inventory.isDeleted())
+                    .limit(limit)
+                    .toList();
+        }
+        return findActiveInOrder(searchIndex.search(query, limit)).toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Inventory> findInventoriesByLocation(String location) {
@@ -61,6 +106,7 @@ public class InventoryServiceImpl implements InventoryService {
     }
 
     @Override
+    @RetryOnConflict
     public Inventory updateInventory(Long id, Inventory updatedInventory) {
         Inventory existingInventory = findInventoryById(id);
         
@@ -69,19 +115,26 @@ public class InventoryServiceImpl implements InventoryService {
             existsByItemCode(updatedInventory.getItemCode())) {
             throw new BadRequestException("Item code already exists: " + updatedInventory.getItemCode());
         }
+        if (!existingInventory.getQrCode().equals(updatedInventory.getQrCode()) &&
+            inventoryRepository.existsByQrCode(updatedInventory.getQrCode())) {
+            throw new BadRequestException("QR code already exists: " + updatedInventory.getQrCode());
+        }
         
         // Update fields
         existingInventory.setItemName(updatedInventory.getItemName());
         existingInventory.setItemCode(updatedInventory.getItemCode());
         existingInventory.setQuantity(updatedInventory.getQuantity());
+        existingInventory.setReorderPoint(updatedInventory.getReorderPoint());
         existingInventory.setLocation(updatedInventory.getLocation());
         existingInventory.setQrCode(updatedInventory.getQrCode());
         existingInventory.setUpdatedAt(LocalDateTime.now());
         
+        eventPublisher.publishEvent(InventoryChangedEvent.changed(existingInventory));
         return inventoryRepository.save(existingInventory);
     }
 
     @Override
+    @RetryOnConflict
     public Inventory updateQuantity(Long id, Integer quantity) {
         if (quantity < 0) {
             throw new BadRequestException("Quantity cannot be negative: " + quantity);
@@ -91,29 +144,38 @@ public class InventoryServiceImpl implements InventoryService {
         inventory.setQuantity(quantity);
         inventory.setUpdatedAt(LocalDateTime.now());
         
+        eventPublisher.publishEvent(InventoryChangedEvent.changed(inventory));
         return inventoryRepository.save(inventory);
     }
 
     @Override
     public Inventory adjustQuantity(Long id, Integer adjustment) {
+        // 읽고-계산하고-저장하는 대신 조건부 UPDATE 한 번으로 처리 (동시 조정 시 갱신 손실 방지)
+        int updated = inventoryRepository.adjustQuantity(id, adjustment, LocalDateTime.now());
         Inventory inventory = findInventoryById(id);
-        Integer newQuantity = inventory.getQuantity() + adjustment;
-        
-        if (newQuantity < 0) {
+
+        // 갱신된 행이 없으면 원인 구분: 삭제된 재고, 수량 상한 초과 또는 재고 부족
+        if (updated == 0) {
+            if (inventory.isDeleted()) {
+                throw new ResourceNotFoundException("Inventory not found with id: " + id);
+            }
+            if ((long) inventory.getQuantity() + adjustment > Integer.MAX_VALUE) {
+                throw new BadRequestException("Quantity would exceed the maximum. Current: " + inventory.getQuantity() + ", Adjustment: " + adjustment);
+            }
             throw new BadRequestException("Insufficient inventory. Current: " + inventory.getQuantity() + ", Adjustment: " + adjustment);
         }
-        
-        inventory.setQuantity(newQuantity);
-        inventory.setUpdatedAt(LocalDateTime.now());
-        
-        return inventoryRepository.save(inventory);
+
+        eventPublisher.publishEvent(InventoryChangedEvent.adjusted(inventory, adjustment));
+        return inventory;
     }
 
     @Override
+    @RetryOnConflict
     public void deleteInventory(Long id) {
         Inventory inventory = findInventoryById(id);
         inventory.setDeleted(true);
         inventory.setUpdatedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(InventoryChangedEvent.changed(inventory));
         inventoryRepository.save(inventory);
     }
 
@@ -126,7 +188,7 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     @Transactional(readOnly = true)
     public long getTotalInventoryCount() {
-        return inventoryRepository.findAllActiveOrderByUpdatedAtDesc().size();
+        return inventoryRepository.countByDeletedFalse();
     }
 
     @Override
@@ -138,6 +200,24 @@ public class InventoryServiceImpl implements InventoryService {
         return inventoryRepository.findLowStockItems(threshold);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Inventory> findLowStockItems() {
+        // 색인에 있는 상품만 ID로 조회하고, 다른 노드의 변경으로 더 이상 저재고가 아닌 상품은 제외
+        return findActiveInOrder(lowStockIndex.lowStockIds())
+                .filter(inventory -> inventory.getQuantity() <= inventory.getReorderPoint())
+                .toList();
+    }
+
+    // 메모리 색인이 돌려준 ID 순서대로 조회 (그사이 삭제된 재고 제외)
+    private Stream<Inventory> findActiveInOrder(List<Long> ids) {
+        Map<Long, Inventory> inventories = inventoryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Inventory::getId, Function.identity()));
+        return ids.stream()
+                .map(inventories::get)
+                .filter(inventory -> inventory != null && !inventory.isDeleted());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Inventory> findByQrCode(String qrCode) {
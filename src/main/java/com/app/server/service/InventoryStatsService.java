@@ -0,0 +1,215 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.domain.Inventory.StockState;
+import com.app.server.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 재고 통계 (활성 SKU 수, 총 수량, 위치별 수량, 상품별 재주문 기준 이하인 저재고 수)
+ *
+ * - 조회 시 DB를 읽지 않고 메모리 카운터를 그대로 반환한다 (비용은 위치 수에만 비례).
+ * - 재고 변경은 커밋 후 InventoryChangedEvent 의 이전/이후 상태 차이만큼 카운터에 더한다.
+ * - 다른 노드의 변경이나 이벤트를 거치지 않는 변경은 reconcile-interval 마다 DB 집계로 보정한다.
+ *   집계 쿼리는 락 없이 실행하고(이벤트 반영을 막지 않음), 그동안 반영된 변경은 따로 기록해 두었다가
+ *   집계 결과에 다시 더한 값으로 교체한다. 교체하는 짧은 구간만 이벤트 반영과 배타적으로 실행된다.
+ *   집계 시작 전에 커밋되었지만 이벤트가 집계 시작 후에 반영된 변경은 두 번 더해질 수 있으며,
+ *   이 오차(커밋과 이벤트 반영 사이의 짧은 구간에 한정)는 다음 보정에서 바로잡힌다.
+ */
+@Slf4j
+@Component
+public class InventoryStatsService {
+
+    private final InventoryRepository inventoryRepository;
+    private final LongAdder activeSkus = new LongAdder();
+    private final LongAdder totalUnits = new LongAdder();
+    private final LongAdder lowStockCount = new LongAdder();
+    private final ConcurrentHashMap<String, LocationCounters> locations = new ConcurrentHashMap<>();
+    private final Counter drift;
+    // 이벤트 반영끼리는 동시에(읽기 락), 보정 시작/교체는 단독으로(쓰기 락) 실행
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+    // 보정 중에만 null 이 아님 (쓰기 락 안에서 교체, 읽기 락 안에서 추가)
+    private Queue<InventoryChangedEvent> pendingDuringReconcile;
+
+    private volatile LocalDateTime reconciledAt;
+
+    public InventoryStatsService(InventoryRepository inventoryRepository, MeterRegistry meterRegistry) {
+        this.inventoryRepository = inventoryRepository;
+        this.drift = Counter.builder("inventory.stats.drift")
+                .description("DB 집계로 보정한 재고 통계 카운터 차이 (SKU 수 + 수량 절댓값 합)")
+                .register(meterRegistry);
+    }
+
+    public Inventory.StatsResponse getStats() {
+        Map<String, Long> unitsByLocation = new TreeMap<>();
+        locations.forEach((location, counters) -> {
+            if (counters.skus.sum() > 0) {
+                unitsByLocation.put(location, counters.units.sum());
+            }
+        });
+        return new Inventory.StatsResponse(activeSkus.sum(), totalUnits.sum(), lowStockCount.sum(),
+                unitsByLocation, reconciledAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        reconcileLock.readLock().lock();
+        try {
+            if (event.before() != null) {
+                apply(event.before(), -1);
+            }
+            if (event.after() != null) {
+                apply(event.after(), 1);
+            }
+            if (pendingDuringReconcile != null) {
+                pendingDuringReconcile.add(event);
+            }
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+    }
+
+    private void apply(StockState state, int sign) {
+        activeSkus.add(sign);
+        totalUnits.add((long) sign * state.quantity());
+        if (state.lowStock()) {
+            lowStockCount.add(sign);
+        }
+        LocationCounters counters = location(state.location());
+        counters.skus.add(sign);
+        counters.units.add((long) sign * state.quantity());
+    }
+
+    // 기동 시 초기 적재와 주기적 보정 (집계 쿼리 한 번)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${inventory.stats.reconcile-interval:5m}",
+               initialDelayString = "${inventory.stats.reconcile-interval:5m}")
+    public synchronized void reconcile() {
+        reconcileLock.writeLock().lock();
+        try {
+            pendingDuringReconcile = new ConcurrentLinkedQueue<>();
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+
+        Snapshot snapshot = new Snapshot();
+        try {
+            for (InventoryRepository.LocationStats row : inventoryRepository.aggregateActiveByLocation()) {
+                snapshot.add(row);
+            }
+        } catch (RuntimeException e) {
+            reconcileLock.writeLock().lock();
+            try {
+                pendingDuringReconcile = null;
+            } finally {
+                reconcileLock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        reconcileLock.writeLock().lock();
+        try {
+            pendingDuringReconcile.forEach(snapshot::replay);
+            pendingDuringReconcile = null;
+            swapIn(snapshot);
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락 안에서 호출: 현재 카운터를 스냅샷 값으로 맞춤
+    private void swapIn(Snapshot snapshot) {
+        long skusBefore = activeSkus.sum();
+        long unitsBefore = totalUnits.sum();
+        activeSkus.add(snapshot.skus - skusBefore);
+        totalUnits.add(snapshot.units - unitsBefore);
+        lowStockCount.add(snapshot.lowStock - lowStockCount.sum());
+
+        locations.forEach((location, counters) -> {
+            if (!snapshot.locations.containsKey(location)) {
+                counters.skus.add(-counters.skus.sum());
+                counters.units.add(-counters.units.sum());
+            }
+        });
+        snapshot.locations.forEach((location, target) -> {
+            LocationCounters counters = location(location);
+            counters.skus.add(target[0] - counters.skus.sum());
+            counters.units.add(target[1] - counters.units.sum());
+        });
+
+        boolean initialLoad = reconciledAt == null;
+        reconciledAt = LocalDateTime.now();
+
+        // 초기 적재는 보정 지표에서 제외
+        long corrected = Math.abs(snapshot.skus - skusBefore) + Math.abs(snapshot.units - unitsBefore);
+        if (!initialLoad && corrected > 0) {
+            drift.increment(corrected);
+            log.debug("재고 통계 보정: skus {} → {}, units {} → {}", skusBefore, snapshot.skus, unitsBefore, snapshot.units);
+        }
+    }
+
+    private LocationCounters location(String location) {
+        return locations.computeIfAbsent(location, key -> new LocationCounters());
+    }
+
+    // DB 집계 결과에 집계 중 반영된 변경을 더한 보정 목표값
+    private static final class Snapshot {
+        private long skus;
+        private long units;
+        private long lowStock;
+        // 위치 -> {SKU 수, 수량}
+        private final Map<String, long[]> locations = new HashMap<>();
+
+        private void add(InventoryRepository.LocationStats row) {
+            skus += row.getSkus();
+            units += row.getUnits();
+            lowStock += row.getLowStock();
+            long[] counters = locations.computeIfAbsent(row.getLocation(), key -> new long[2]);
+            counters[0] += row.getSkus();
+            counters[1] += row.getUnits();
+        }
+
+        private void replay(InventoryChangedEvent event) {
+            if (event.before() != null) {
+                add(event.before(), -1);
+            }
+            if (event.after() != null) {
+                add(event.after(), 1);
+            }
+        }
+
+        private void add(StockState state, int sign) {
+            skus += sign;
+            units += (long) sign * state.quantity();
+            if (state.lowStock()) {
+                lowStock += sign;
+            }
+            long[] counters = locations.computeIfAbsent(state.location(), key -> new long[2]);
+            counters[0] += sign;
+            counters[1] += (long) sign * state.quantity();
+        }
+    }
+
+    private static final class LocationCounters {
+        private final LongAdder skus = new LongAdder();
+        private final LongAdder units = new LongAdder();
+    }
+}
@@ -0,0 +1,12 @@
+package com.app.server.service;
+
+/**
+ * 재고 수량이 재주문 기준을 넘나들었음을 알리는 이벤트 (커밋 후 발행)
+ * 재주문 알림 등 저재고 진입/해제 시점에만 동작하는 후속 처리에 사용된다.
+ * @param inventoryId 재고 ID
+ * @param quantity 변경 후 수량
+ * @param reorderPoint 변경 후 재주문 기준 수량
+ * @param lowStock true 이면 저재고 진입, false 이면 해제(보충 또는 삭제)
+ */
+public record InventoryThresholdCrossedEvent(Long inventoryId, int quantity, int reorderPoint, boolean lowStock) {
+}
@@ -1,6 +1,8 @@
 package com.app.server.service;
 
 import com.app.server.domain.Log;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -12,6 +14,7 @@ public interface LogService {
     // Read
     Log findLogById(Long id);
     List<Log> findAllLogs();
+    CursorPage<Log> findLogPage(KeysetCursor after, int size);
     List<Log> findLogsByUserId(Long userId);
     List<Log> findLogsByEntityType(String entityType);
     List<Log> findLogsByEntityId(Long entityId);
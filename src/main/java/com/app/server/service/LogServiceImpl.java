@@ -3,6 +3,8 @@ package com.app.server.service;
 import com.app.server.domain.Log;
 import com.app.server.exception.ResourceNotFoundException;
 import com.app.server.repository.LogRepository;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -55,6 +57,16 @@ public class LogServiceImpl implements LogService {
         return logRepository.findAllOrderByTimestampDesc();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Log> findLogPage(KeysetCursor after, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<Log> rows = after == null
+                ? logRepository.findPage(limit)
+                : logRepository.findPageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, log -> new KeysetCursor(log.getTimestamp(), log.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Log> findLogsByUserId(Long userId) {
@@ -100,11 +112,7 @@ public class LogServiceImpl implements LogService {
     @Override
     @Transactional(readOnly = true)
     public List<Log> findRecentLogs(int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        return logRepository.findAllOrderByTimestampDesc()
-                .stream()
-                .limit(limit)
-                .toList();
+        return logRepository.findPage(PageRequest.ofSize(limit));
     }
 
     @Override
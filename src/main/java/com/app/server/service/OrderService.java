@@ -3,6 +3,8 @@ package com.app.server.service;
 import com.app.server.domain.InboundOrder;
 import com.app.server.domain.OutboundOrder;
 import com.app.server.domain.OrderStatus;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +15,7 @@ public interface OrderService {
     InboundOrder findInboundOrderById(Long id);
     Optional<InboundOrder> findInboundOrderByOrderNumber(String orderNumber);
     List<InboundOrder> findAllInboundOrders();
+    CursorPage<InboundOrder> findInboundOrderPage(KeysetCursor after, int size);
     List<InboundOrder> findInboundOrdersByStatus(OrderStatus status);
     List<InboundOrder> findInboundOrdersByUserId(Long userId);
     InboundOrder updateInboundOrder(Long id, InboundOrder inboundOrder);
@@ -24,6 +27,7 @@ public interface OrderService {
     OutboundOrder findOutboundOrderById(Long id);
     Optional<OutboundOrder> findOutboundOrderByOrderNumber(String orderNumber);
     List<OutboundOrder> findAllOutboundOrders();
+    CursorPage<OutboundOrder> findOutboundOrderPage(KeysetCursor after, int size);
     List<OutboundOrder> findOutboundOrdersByStatus(OrderStatus status);
     List<OutboundOrder> findOutboundOrdersByUserId(Long userId);
     OutboundOrder updateOutboundOrder(Long id, OutboundOrder outboundOrder);
@@ -7,6 +7,11 @@ import com.app.server.exception.ResourceNotFoundException;
 import com.app.server.exception.BadRequestException;
 import com.app.server.repository.InboundOrderRepository;
 import com.app.server.repository.OutboundOrderRepository;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
+import com.app.server.support.RetryOnConflict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,6 +60,16 @@ public class OrderServiceImpl implements OrderService {
         return inboundOrderRepository.findAllActiveOrderByCreatedAtDesc();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<InboundOrder> findInboundOrderPage(KeysetCursor after, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<InboundOrder> rows = after == null
+                ? inboundOrderRepository.findActivePage(limit)
+                : inboundOrderRepository.findActivePageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, order -> new KeysetCursor(order.getCreatedAt(), order.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<InboundOrder> findInboundOrdersByStatus(OrderStatus status) {
@@ -68,6 +83,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     public InboundOrder updateInboundOrder(Long id, InboundOrder updatedOrder) {
         InboundOrder existingOrder = findInboundOrderById(id);
         
@@ -88,6 +104,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     public InboundOrder updateInboundOrderStatus(Long id, OrderStatus status) {
         InboundOrder order = findInboundOrderById(id);
         order.setStatus(status);
@@ -100,6 +117,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     public void deleteInboundOrder(Long id) {
         InboundOrder order = findInboundOrderById(id);
         order.setDeleted(true);
@@ -134,6 +152,16 @@ public class OrderServiceImpl implements OrderService {
         return outboundOrderRepository.findAllActiveOrderByCreatedAtDesc();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<OutboundOrder> findOutboundOrderPage(KeysetCursor after, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<OutboundOrder> rows = after == null
+                ? outboundOrderRepository.findActivePage(limit)
+                : outboundOrderRepository.findActivePageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, order -> new KeysetCursor(order.getCreatedAt(), order.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<OutboundOrder> findOutboundOrdersByStatus(OrderStatus status) {
@@ -147,6 +175,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     public OutboundOrder updateOutboundOrder(Long id, OutboundOrder updatedOrder) {
         OutboundOrder existingOrder = findOutboundOrderById(id);
         
@@ -167,6 +196,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     public OutboundOrder updateOutboundOrderStatus(Long id, OrderStatus status) {
         OutboundOrder order = findOutboundOrderById(id);
         order.setStatus(status);
@@ -179,6 +209,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     public void deleteOutboundOrder(Long id) {
         OutboundOrder order = findOutboundOrderById(id);
         order.setDeleted(true);
@@ -212,6 +243,7 @@ public class OrderServiceImpl implements OrderService {
 
     // Order Processing
     @Override
+    @RetryOnConflict
     public InboundOrder processInboundOrder(Long id) {
         InboundOrder order = findInboundOrderById(id);
         
@@ -224,6 +256,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     public OutboundOrder processOutboundOrder(Long id) {
         OutboundOrder order = findOutboundOrderById(id);
         
@@ -236,6 +269,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     public InboundOrder cancelInboundOrder(Long id) {
         InboundOrder order = findInboundOrderById(id);
         
@@ -249,6 +283,7 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @RetryOnConflict
     public OutboundOrder cancelOutboundOrder(Long id) {
         OutboundOrder order = findOutboundOrderById(id);
         
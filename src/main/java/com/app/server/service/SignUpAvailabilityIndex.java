@@ -0,0 +1,66 @@
+package com.app.server.service;
+
+import com.app.server.repository.UserRepository;
+import com.app.server.security.UserChangedEvent;
+import com.app.server.support.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.stream.Stream;
+
+/**
+ * 사용 중인 닉네임 Bloom 필터 (가입 가능 여부 조회용)
+ *
+ * - 필터에 없으면 DB 조회 없이 "사용 가능"으로 응답하고, 있을 때만(실제 사용 중 또는 거짓 양성) DB로 확인한다.
+ * - 기동 시 전체 값을 적재하고, 이후 변경은 커밋 후 UserChangedEvent 로 추가한다.
+ * - 최종 중복 판단은 회원가입 시 유니크 제약 조건이 담당하므로 이 필터는 조회 최적화 용도다.
+ * - 이메일은 인증 없이 가입 여부를 열거하는 통로가 되므로 제공하지 않는다.
+ *   이메일 중복은 더 엄격한 속도 제한이 걸린 회원가입 응답으로만 드러난다.
+ */
+@Slf4j
+@Component
+public class SignUpAvailabilityIndex {
+
+    private final UserRepository userRepository;
+    private final BloomFilter nicknames;
+
+    // 초기 적재 전에는 필터를 신뢰할 수 없으므로 항상 DB로 확인
+    private volatile boolean loaded = false;
+
+    public SignUpAvailabilityIndex(UserRepository userRepository,
+                                   @Value("${auth.availability.expected-users:1000000}") int expectedUsers,
+                                   @Value("${auth.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.nicknames = new BloomFilter(expectedUsers, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        try (Stream<String> allNicknames = userRepository.streamAllNicknames()) {
+            allNicknames.forEach(nicknames::add);
+        }
+        loaded = true;
+        log.info("가입 가능 여부 필터 적재 완료");
+    }
+
+    public boolean isNicknameAvailable(String nickname) {
+        if (loaded && !nicknames.mightContain(nickname)) {
+            return true;
+        }
+        return !userRepository.existsByNickname(nickname);
+    }
+
+    // 가입/수정된 사용자의 현재 닉네임 추가 (이전 값은 남아도 DB 확인으로 처리됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.nickname() != null) {
+            nicknames.add(event.nickname());
+        }
+    }
+}
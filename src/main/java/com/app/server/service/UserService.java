@@ -1,6 +1,8 @@
 package com.app.server.service;
 
 import com.app.server.domain.User;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +14,7 @@ public interface UserService {
     User findUserById(Long id);
     Optional<User> findUserByEmail(String email);
     List<User> findAllUsers();
+    CursorPage<User> findUserPage(KeysetCursor after, int size);
     List<User> findActiveUsers();
     
     // Update
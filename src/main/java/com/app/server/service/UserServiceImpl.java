@@ -4,6 +4,14 @@ import com.app.server.domain.User;
 import com.app.server.exception.ResourceNotFoundException;
 import com.app.server.exception.BadRequestException;
 import com.app.server.repository.UserRepository;
+import com.app.server.security.UserChangedEvent;
+import com.app.server.security.UserSecurityChangedEvent;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
+import com.app.server.support.RetryOnConflict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +24,11 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -26,7 +36,10 @@ public class UserServiceImpl implements UserService {
         if (existsByEmail(user.getEmail())) {
             throw new BadRequestException("Email already exists: " + user.getEmail());
         }
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        // 미존재로 부정 캐시된 이메일 무효화
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser.getId(), savedUser.getNickname(), savedUser.getEmail()));
+        return savedUser;
     }
 
     @Override
@@ -48,6 +61,16 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<User> findUserPage(KeysetCursor after, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<User> rows = after == null
+                ? userRepository.findPage(limit)
+                : userRepository.findPageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, user -> new KeysetCursor(user.getCreatedAt(), user.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<User> findActiveUsers() {
@@ -55,6 +78,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @RetryOnConflict
     public User updateUser(Long id, User updatedUser) {
         User existingUser = findUserById(id);
         
@@ -64,6 +88,14 @@ public class UserServiceImpl implements UserService {
             throw new BadRequestException("Email already exists: " + updatedUser.getEmail());
         }
         
+        String previousEmail = existingUser.getEmail();
+
+        // 역할/이메일/비밀번호가 바뀌면 기존 액세스 토큰을 무효화해야 함
+        boolean securityChanged = existingUser.getRole() != updatedUser.getRole()
+                || !existingUser.getEmail().equals(updatedUser.getEmail())
+                || (updatedUser.getPassword() != null && !updatedUser.getPassword().isEmpty()
+                    && !updatedUser.getPassword().equals(existingUser.getPassword()));
+
         // Update fields
         existingUser.setEmail(updatedUser.getEmail());
         existingUser.setNickname(updatedUser.getNickname());
@@ -76,25 +108,38 @@ public class UserServiceImpl implements UserService {
         }
         
         existingUser.setUpdatedAt(LocalDateTime.now());
-        
-        return userRepository.save(existingUser);
+
+        if (securityChanged) {
+            bumpSecurityVersion(existingUser);
+        }
+
+        User savedUser = userRepository.save(existingUser);
+        eventPublisher.publishEvent(UserChangedEvent.of(id, savedUser.getNickname(), previousEmail, savedUser.getEmail()));
+        return savedUser;
     }
 
     @Override
+    @RetryOnConflict
     public void deleteUser(Long id) {
         User user = findUserById(id);
         user.setDeleted(true);
         user.setUpdatedAt(LocalDateTime.now());
+        bumpSecurityVersion(user);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(id, user.getNickname(), user.getEmail()));
     }
 
     @Override
+    @RetryOnConflict
     public void restoreUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         user.setDeleted(false);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        // 삭제 시 올린 보안 버전은 유지되므로 삭제 이전 토큰은 계속 무효
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(user.getId(), user.getSecurityVersion(), true));
+        eventPublisher.publishEvent(UserChangedEvent.of(id, user.getNickname(), user.getEmail()));
     }
 
     @Override
@@ -108,4 +153,11 @@ public class UserServiceImpl implements UserService {
     public long countActiveUsers() {
         return userRepository.countByDeletedFalse();
     }
+
+    // 보안 버전을 올리고 커밋 후 SecurityVersionRegistry에 반영되도록 이벤트 발행
+    private void bumpSecurityVersion(User user) {
+        user.setSecurityVersion(user.getSecurityVersion() + 1);
+        eventPublisher.publishEvent(
+                new UserSecurityChangedEvent(user.getId(), user.getSecurityVersion(), !user.isDeleted()));
+    }
 }
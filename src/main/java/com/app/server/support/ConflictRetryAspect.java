@@ -0,0 +1,115 @@
+package com.app.server.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @RetryOnConflict 메서드의 낙관적 잠금 충돌 재시도
+ *
+ * 트랜잭션 어드바이스(@Transactional, 기본 순서 LOWEST_PRECEDENCE)보다 바깥에서 실행되어야
+ * 재시도마다 새 트랜잭션과 새 영속성 컨텍스트가 사용되므로 순서를 그보다 하나 앞으로 둔다.
+ *
+ * 지표 (operation = 클래스명.메서드명)
+ * - persistence.conflict.calls: 호출 수
+ * - persistence.conflict.conflicts: 충돌 발생 수 (충돌률 = conflicts / calls)
+ * - persistence.conflict.exhausted: 재시도 횟수를 모두 소진하고 실패한 수
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+
+    private final int defaultMaxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    public ConflictRetryAspect(@Value("${persistence.conflict-retry.max-attempts:3}") int defaultMaxAttempts,
+                               @Value("${persistence.conflict-retry.initial-backoff:10ms}") Duration initialBackoff,
+                               @Value("${persistence.conflict-retry.max-backoff:100ms}") Duration maxBackoff,
+                               MeterRegistry meterRegistry) {
+        this.defaultMaxAttempts = Math.max(1, defaultMaxAttempts);
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        Meters operationMeters = meters.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::createMeters);
+        operationMeters.calls().increment();
+
+        // 바깥 트랜잭션 안에서는 같은 영속성 컨텍스트로 재시도할 수 없으므로 한 번만 실행
+        int maxAttempts = TransactionSynchronizationManager.isActualTransactionActive()
+                ? 1
+                : retryOnConflict.maxAttempts() > 0 ? retryOnConflict.maxAttempts() : defaultMaxAttempts;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                operationMeters.conflicts().increment();
+                if (attempt >= maxAttempts) {
+                    operationMeters.exhausted().increment();
+                    throw e;
+                }
+                log.debug("낙관적 잠금 충돌, 재시도합니다: {} ({}/{})",
+                        joinPoint.getSignature().toShortString(), attempt, maxAttempts);
+                if (!backOff(attempt)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 지수 백오프 상한 안에서 무작위로 대기 (동시에 충돌한 요청들이 같은 시점에 다시 부딪히지 않도록)
+    private boolean backOff(int attempt) {
+        long ceiling = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 20));
+        long delayNanos = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Meters createMeters(Method method) {
+        String operation = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        return new Meters(
+                counter("persistence.conflict.calls", "@RetryOnConflict 메서드 호출 수", operation),
+                counter("persistence.conflict.conflicts", "낙관적 잠금 충돌 수", operation),
+                counter("persistence.conflict.exhausted", "재시도 소진 후 실패 수", operation));
+    }
+
+    private Counter counter(String name, String description, String operation) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private record Meters(Counter calls, Counter conflicts, Counter exhausted) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.app.server.support;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 응답
+ * nextCursor 가 null 이면 마지막 페이지이다.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지 생성 (초과분이 있으면 다음 페이지가 있음)
+     * @param rows 정렬 키 순서로 최대 size + 1 건 조회한 결과
+     * @param size 페이지 크기
+     * @param keyOf 행의 정렬 키
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> keyOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(List.copyOf(items), keyOf.apply(items.get(size - 1)).encode());
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,41 @@
+package com.app.server.support;
+
+import com.app.server.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 위치 (정렬 키 = 시각 내림차순, 같은 시각이면 ID 내림차순)
+ * 클라이언트에는 base64url 로 인코딩한 불투명 문자열로만 노출한다.
+ */
+public record KeysetCursor(LocalDateTime timestamp, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        byte[] raw = (timestamp.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * @param cursor 이전 응답의 nextCursor
+     * @return 커서 위치, 첫 페이지 요청(null/빈 문자열)이면 null
+     * @throws BadRequestException 해석할 수 없는 커서
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.app.server.support;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 내용이 고정된 JSON 오류 응답을 미리 UTF-8 바이트로 인코딩해 둔 템플릿
+ *
+ * 요청마다 달라지는 path 만 JSON 이스케이프하여 끼워 넣으므로
+ * ObjectMapper/Map/DTO 를 만들지 않고 응답을 쓴다.
+ * 형식: {"status":401,"error":"Unauthorized","message":"...","path":"/요청/경로"}
+ */
+public final class PreEncodedErrorBody {
+
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final int status;
+    private final byte[] prefix;
+
+    public PreEncodedErrorBody(int status, String error, String message) {
+        this.status = status;
+        this.prefix = ("{\"status\":" + status
+                + ",\"error\":\"" + escape(error)
+                + "\",\"message\":\"" + escape(message)
+                + "\",\"path\":\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public int status() {
+        return status;
+    }
+
+    /**
+     * 응답 상태/헤더를 설정하고 본문을 바로 기록
+     * @param response 서블릿 응답
+     * @param path 요청 경로
+     */
+    public void writeTo(HttpServletResponse response, String path) throws IOException {
+        byte[] escapedPath = JsonStringEncoder.getInstance().quoteAsUTF8(path);
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(prefix.length + escapedPath.length + SUFFIX.length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(prefix);
+        out.write(escapedPath);
+        out.write(SUFFIX);
+    }
+
+    /**
+     * 본문 바이트 생성 (ResponseEntity 로 반환하는 경우)
+     * @param path 요청 경로
+     * @return JSON 본문
+     */
+    public byte[] render(String path) {
+        byte[] escapedPath = JsonStringEncoder.getInstance().quoteAsUTF8(path);
+        byte[] body = new byte[prefix.length + escapedPath.length + SUFFIX.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(escapedPath, 0, body, prefix.length, escapedPath.length);
+        System.arraycopy(SUFFIX, 0, body, prefix.length + escapedPath.length, SUFFIX.length);
+        return body;
+    }
+
+    private static String escape(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.server.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 잠금 충돌(@Version 불일치) 시 메서드 전체를 새 트랜잭션으로 다시 실행
+ *
+ * - 재시도는 트랜잭션 바깥에서 이루어지므로 매번 최신 상태를 다시 읽고 검증 로직도 다시 수행한다.
+ * - 이미 진행 중인 트랜잭션 안에서 호출되면 재시도하지 않고 바깥 호출자에게 충돌을 전달한다.
+ * - 재시도 간격은 지수 백오프에 전체 지터(full jitter)를 적용한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    /**
+     * 최초 시도를 포함한 최대 실행 횟수, 0 이하이면 persistence.conflict-retry.max-attempts 사용
+     */
+    int maxAttempts() default 0;
+}
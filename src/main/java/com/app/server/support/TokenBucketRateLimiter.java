@@ -0,0 +1,81 @@
+package com.app.server.support;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 속도 제한 (GCRA: Generic Cell Rate Algorithm)
+ *
+ * - 버킷 상태는 "이론적 도착 시각(TAT)" long 하나이며 AtomicLong CAS 로 갱신하므로 락이 없다.
+ * - 키 맵은 ConcurrentHashMap 이므로 조회는 락 없이, 신규 키 삽입은 해당 bin 만 잠근다 (전역 락 없음).
+ * - 키 수는 maxKeys 로 제한되고, 버킷이 가득 찬(유휴) 키는 evictIdle 로 제거된다.
+ *   한도에 도달하면 신규 키는 추적하지 않고 허용한다 (정상 사용자를 막지 않기 위한 fail-open).
+ */
+public final class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity 한 번에 허용하는 최대 요청 수 (버킷 크기)
+     * @param period capacity 만큼의 토큰이 다시 채워지는 시간
+     * @param maxKeys 추적할 최대 키 수
+     */
+    public TokenBucketRateLimiter(int capacity, Duration period, int maxKeys) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 는 0보다 커야 합니다: " + capacity);
+        }
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 요청 하나를 허용할지 결정
+     * @param key 제한 키 (IP, 이메일 등)
+     * @return 허용이면 true, 한도 초과면 false
+     */
+    public boolean tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                return true;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            if (newTat - now > burstNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬(더 이상 제한 상태가 아닌) 키 제거
+     * @return 제거 후 남은 키 수
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        return buckets.size();
+    }
+
+    // 거절된 요청이 다시 시도할 수 있을 때까지의 최소 시간 (토큰 하나가 채워지는 시간, 초 단위 올림)
+    public long retryAfterSeconds() {
+        return Math.max(1, (emissionIntervalNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,392 @@
+package com.app.server.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명/상품 코드/위치 부분 문자열 검색용 트라이그램 역색인
+ *
+ * - 문서마다 세 필드의 소문자 트라이그램을 한 번씩만 게시 목록에 추가한다. 필드 앞에는 시작 표시를 두 개 붙여
+ *   1~2자 검색어는 필드 접두사 검색으로 처리한다.
+ * - 게시 목록은 증가하는 내부 번호(ordinal)의 int 배열이므로 정렬 상태가 유지되어, 가장 짧은 목록을 기준으로
+ *   나머지 목록을 앞으로만 지수 탐색(galloping)해 교집합을 구한다. 후보는 원문과 다시 비교하므로 결과에 거짓 양성이 없다.
+ * - 상위 limit 건만 힙에 유지하며, 현재 최하위보다 나쁜 후보는 객체를 만들지 않고 건너뛴다.
+ * - 문서의 세 필드는 문자열 하나에 이어 붙여 보관한다 (후보 검증 시 캐시 미스와 문서당 객체 수 감소).
+ * - 수정/삭제는 이전 번호를 비우기만 하고, 빈 번호가 살아 있는 문서보다 많아지면 게시 목록을 다시 만든다.
+ * - 읽기/쓰기 락으로 보호되므로 검색과 갱신을 동시에 호출해도 안전하다.
+ */
+public final class TrigramIndex {
+
+    private static final char START = '\u0002';
+    private static final char FIELD_SEPARATOR = '\u0001';
+    private static final int MIN_COMPACTION_DEAD = 1024;
+
+    // 점수: 상품 코드 일치 > 필드 접두사 > 단어 접두사 > 부분 문자열
+    private static final int SCORE_CODE_EXACT = 100;
+    private static final int SCORE_CODE_PREFIX = 80;
+    private static final int SCORE_NAME_PREFIX = 70;
+    private static final int SCORE_LOCATION_PREFIX = 50;
+    private static final int SCORE_NAME_WORD_PREFIX = 40;
+    private static final int SCORE_CODE_CONTAINS = 30;
+    private static final int SCORE_NAME_CONTAINS = 20;
+    private static final int SCORE_LOCATION_CONTAINS = 10;
+
+    // 점수 높은 순, 같으면 상품명이 짧은 순, ID 순
+    private static final Comparator<Hit> BEST_FIRST = (a, b) -> compare(a.score, a.nameLength, a.id, b);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private Document[] documents = new Document[1024];
+    private int nextOrdinal;
+    private int dead;
+    // estimatedBytes 를 O(1)로 계산하기 위해 갱신 시 누적
+    private long postingCapacity;
+    private long documentBytes;
+
+    /**
+     * 문서 추가 또는 교체 (내용이 같으면 아무것도 하지 않음)
+     */
+    public void put(long id, String itemName, String itemCode, String location) {
+        Document document = Document.of(id, normalize(itemName), normalize(itemCode), normalize(location));
+
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal != null && document.equals(documents[ordinal])) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int ordinal = nextOrdinal++;
+            if (ordinal == documents.length) {
+                documents = Arrays.copyOf(documents, documents.length + (documents.length >> 1));
+            }
+            documents[ordinal] = document;
+            ordinals.put(id, ordinal);
+            documentBytes += document.estimatedBytes();
+            index(document, ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param query 검색어 (대소문자 무시, 3자 이상이면 부분 문자열, 1~2자면 필드 접두사)
+     * @param limit 최대 결과 수
+     * @return 점수가 높은 순서의 문서 ID
+     */
+    public List<Long> search(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            IntList[] lists = postingsFor(q);
+            if (lists == null) {
+                return List.of();
+            }
+            Arrays.sort(lists, Comparator.comparingInt((IntList list) -> list.size));
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+            IntList smallest = lists[0];
+            int[] cursors = new int[lists.length];
+            candidates:
+            for (int i = 0; i < smallest.size; i++) {
+                int ordinal = smallest.values[i];
+                for (int j = 1; j < lists.length; j++) {
+                    int position = gallop(lists[j], cursors[j], ordinal);
+                    if (position >= lists[j].size) {
+                        break candidates; // 더 큰 번호는 이 목록에 없음
+                    }
+                    cursors[j] = position;
+                    if (lists[j].values[position] != ordinal) {
+                        continue candidates;
+                    }
+                }
+
+                Document document = documents[ordinal];
+                if (document == null) {
+                    continue;
+                }
+                int score = score(document, q);
+                if (score == 0) {
+                    continue;
+                }
+                int nameLength = document.nameLength();
+                if (top.size() == limit && compare(score, nameLength, document.id, top.peek()) >= 0) {
+                    continue;
+                }
+                top.add(new Hit(document.id, score, nameLength));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(BEST_FIRST);
+            return hits.stream().map(Hit::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 차지하는 힙 크기 추정치 (64비트 JVM, 압축 참조 기준 객체 헤더/참조 크기로 계산)
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            // 게시 목록 항목: HashMap 노드(32) + Long 키(16) + IntList(24) + int[] 헤더(16)
+            return 16L + 4L * documents.length
+                    + 88L * postings.size() + 4L * postingCapacity
+                    + documentBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        documentBytes -= documents[ordinal].estimatedBytes();
+        documents[ordinal] = null;
+        dead++;
+        if (dead >= MIN_COMPACTION_DEAD && dead > ordinals.size()) {
+            compactLocked();
+        }
+    }
+
+    // 살아 있는 문서만 앞쪽 번호로 다시 매기고 게시 목록 재생성
+    private void compactLocked() {
+        Document[] live = new Document[Math.max(1024, ordinals.size() + (ordinals.size() >> 1))];
+        int count = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (documents[ordinal] != null) {
+                live[count++] = documents[ordinal];
+            }
+        }
+
+        postings.clear();
+        ordinals.clear();
+        postingCapacity = 0;
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            ordinals.put(live[ordinal].id, ordinal);
+            index(live[ordinal], ordinal);
+        }
+        documents = live;
+        nextOrdinal = count;
+        dead = 0;
+    }
+
+    private void index(Document document, int ordinal) {
+        for (long gram : grams(document)) {
+            postingCapacity += postings.computeIfAbsent(gram, key -> new IntList()).add(ordinal);
+        }
+    }
+
+    private IntList[] postingsFor(String q) {
+        Set<Long> queryGrams = new HashSet<>();
+        if (q.length() >= 3) {
+            addGrams(q, queryGrams);
+        } else {
+            String padded = q.length() == 1 ? "" + START + START + q : START + q;
+            queryGrams.add(gram(padded, 0));
+        }
+
+        IntList[] lists = new IntList[queryGrams.size()];
+        int i = 0;
+        for (long gram : queryGrams) {
+            IntList list = postings.get(gram);
+            if (list == null) {
+                return null;
+            }
+            lists[i++] = list;
+        }
+        return lists;
+    }
+
+    // from 위치부터 target 이상인 첫 위치 (없으면 size)
+    private static int gallop(IntList list, int from, int target) {
+        int[] values = list.values;
+        int size = list.size;
+        if (from >= size || values[from] >= target) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        while (low + step < size && values[low + step] < target) {
+            low += step;
+            step <<= 1;
+        }
+        int high = Math.min(low + step, size);
+        int found = Arrays.binarySearch(values, low + 1, high, target);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    private static int compare(int score, int nameLength, long id, Hit other) {
+        if (score != other.score) {
+            return score > other.score ? -1 : 1;
+        }
+        if (nameLength != other.nameLength) {
+            return nameLength < other.nameLength ? -1 : 1;
+        }
+        return Long.compare(id, other.id);
+    }
+
+    private static int score(Document document, String q) {
+        if (document.codeEquals(q)) {
+            return SCORE_CODE_EXACT;
+        }
+        if (document.startsWith(q, document.codeStart)) {
+            return SCORE_CODE_PREFIX;
+        }
+        if (document.startsWith(q, 0)) {
+            return SCORE_NAME_PREFIX;
+        }
+        if (document.startsWith(q, document.locationStart)) {
+            return SCORE_LOCATION_PREFIX;
+        }
+        if (q.length() < 3) {
+            return 0; // 짧은 검색어는 접두사만 허용
+        }
+        if (document.isNameWordPrefix(q)) {
+            return SCORE_NAME_WORD_PREFIX;
+        }
+        if (document.contains(q, document.codeStart, document.locationStart - 1)) {
+            return SCORE_CODE_CONTAINS;
+        }
+        if (document.contains(q, 0, document.codeStart - 1)) {
+            return SCORE_NAME_CONTAINS;
+        }
+        if (document.contains(q, document.locationStart, document.text.length())) {
+            return SCORE_LOCATION_CONTAINS;
+        }
+        return 0;
+    }
+
+    private static Set<Long> grams(Document document) {
+        Set<Long> grams = new HashSet<>();
+        addGrams("" + START + START + document.text.substring(0, document.codeStart - 1), grams);
+        addGrams("" + START + START + document.text.substring(document.codeStart, document.locationStart - 1), grams);
+        addGrams("" + START + START + document.text.substring(document.locationStart), grams);
+        return grams;
+    }
+
+    private static void addGrams(String text, Set<Long> grams) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(gram(text, i));
+        }
+    }
+
+    // 세 글자(UTF-16 코드 단위)를 long 하나로 묶음
+    private static long gram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // text = 상품명 + 구분자 + 상품 코드 + 구분자 + 위치 (모두 소문자)
+    private record Document(long id, String text, int codeStart, int locationStart) {
+
+        static Document of(long id, String itemName, String itemCode, String location) {
+            String text = itemName + FIELD_SEPARATOR + itemCode + FIELD_SEPARATOR + location;
+            int codeStart = itemName.length() + 1;
+            return new Document(id, text, codeStart, codeStart + itemCode.length() + 1);
+        }
+
+        int nameLength() {
+            return codeStart - 1;
+        }
+
+        boolean codeEquals(String q) {
+            return locationStart - 1 - codeStart == q.length() && text.startsWith(q, codeStart);
+        }
+
+        boolean startsWith(String q, int fieldStart) {
+            return text.startsWith(q, fieldStart);
+        }
+
+        // [fieldStart, fieldEnd) 안에 q가 있는지
+        boolean contains(String q, int fieldStart, int fieldEnd) {
+            int found = text.indexOf(q, fieldStart);
+            return found >= 0 && found + q.length() <= fieldEnd;
+        }
+
+        boolean isNameWordPrefix(String q) {
+            int nameEnd = nameLength();
+            for (int from = text.indexOf(q); from >= 0 && from + q.length() <= nameEnd; from = text.indexOf(q, from + 1)) {
+                if (from == 0 || !Character.isLetterOrDigit(text.charAt(from - 1))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Document(32) + String(24) + byte[](16 + 내용) + ordinals 항목(HashMap 노드 + Long + Integer = 64)
+        long estimatedBytes() {
+            boolean latin1 = text.chars().allMatch(c -> c < 256);
+            return 136L + (latin1 ? text.length() : 2L * text.length());
+        }
+    }
+
+    private record Hit(long id, int score, int nameLength) {
+    }
+
+    // 정렬된 ordinal 게시 목록 (박싱 없는 int 배열)
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        // 늘어난 배열 용량을 반환 (새 목록은 초기 용량 포함)
+        int add(int value) {
+            int grown = size == 0 && values.length == 4 ? 4 : 0;
+            if (size == values.length) {
+                int capacity = size + (size >> 1) + 1;
+                grown = capacity - values.length;
+                values = Arrays.copyOf(values, capacity);
+            }
+            values[size++] = value;
+            return grown;
+        }
+    }
+}
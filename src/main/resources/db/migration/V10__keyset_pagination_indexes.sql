@@ -0,0 +1,6 @@
+-- 목록 API 키셋 페이지 조회용 인덱스 - (정렬 시각, id) 내림차순, 소프트 삭제 대상은 삭제되지 않은 행만 포함
+CREATE INDEX idx_inventory_active_updated ON inventory (updated_at DESC, id DESC) WHERE deleted = false;
+CREATE INDEX idx_inbound_order_active_created ON inbound_order (created_at DESC, id DESC) WHERE deleted = false;
+CREATE INDEX idx_outbound_order_active_created ON outbound_order (created_at DESC, id DESC) WHERE deleted = false;
+CREATE INDEX idx_users_created ON users (created_at DESC, id DESC);
+CREATE INDEX idx_log_timestamp ON log (timestamp DESC, id DESC);
@@ -0,0 +1,5 @@
+-- 상품별 재주문 기준 수량 (기존 저재고 조회 기본 임계값 10)
+ALTER TABLE inventory ADD COLUMN reorder_point INTEGER NOT NULL DEFAULT 10;
+
+-- 저재고 색인 재계산용 인덱스 - 저재고 상품만 포함하므로 크기가 저재고 상품 수에 비례
+CREATE INDEX idx_inventory_low_stock ON inventory (id) WHERE deleted = false AND quantity <= reorder_point;
@@ -0,0 +1,14 @@
+-- QR 스캔 조회(findByQrCode)는 한 건만 반환하므로 QR 코드 중복 불가
+-- 중복이 남아 있으면 제약 조건 생성이 실패하므로, 어떤 코드가 중복인지 알 수 있게 먼저 확인
+DO $$
+DECLARE
+    duplicates TEXT;
+BEGIN
+    SELECT string_agg(qr_code, ', ') INTO duplicates
+    FROM (SELECT qr_code FROM inventory GROUP BY qr_code HAVING COUNT(*) > 1 LIMIT 20) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'inventory.qr_code 중복을 먼저 정리해야 합니다: %', duplicates;
+    END IF;
+END $$;
+
+ALTER TABLE inventory ADD CONSTRAINT uk_inventory_qr_code UNIQUE (qr_code);
@@ -0,0 +1,88 @@
+-- 기준 스키마 (Hibernate 매핑 기준). 기존 운영 DB는 baseline 처리되어 이 스크립트를 건너뛴다.
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nickname    VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    role        VARCHAR(255),
+    name        VARCHAR(255),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    created_by  VARCHAR(255) NOT NULL,
+    updated_by  VARCHAR(255) NOT NULL,
+    deleted     BOOLEAN      NOT NULL,
+    CONSTRAINT uk_users_nickname UNIQUE (nickname),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT ck_users_role CHECK (role IN ('USER', 'ADMIN'))
+);
+
+CREATE TABLE inventory (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    item_name   VARCHAR(255) NOT NULL,
+    item_code   VARCHAR(255) NOT NULL,
+    quantity    INTEGER      NOT NULL,
+    location    VARCHAR(255) NOT NULL,
+    qr_code     VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    created_by  VARCHAR(255) NOT NULL,
+    updated_by  VARCHAR(255) NOT NULL,
+    deleted     BOOLEAN      NOT NULL,
+    CONSTRAINT uk_inventory_item_code UNIQUE (item_code)
+);
+
+CREATE TABLE inbound_order (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_number    VARCHAR(255) NOT NULL,
+    supplier_id     BIGINT       NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    total_quantity  INTEGER      NOT NULL,
+    user_id         BIGINT       NOT NULL REFERENCES users (id),
+    created_at      TIMESTAMP(6) NOT NULL,
+    processed_at    TIMESTAMP(6),
+    updated_at      TIMESTAMP(6) NOT NULL,
+    created_by      VARCHAR(255) NOT NULL,
+    updated_by      VARCHAR(255) NOT NULL,
+    deleted         BOOLEAN      NOT NULL,
+    CONSTRAINT uk_inbound_order_order_number UNIQUE (order_number),
+    CONSTRAINT ck_inbound_order_status CHECK (status IN ('PENDING', 'PROCESSING', 'COMPLETED', 'CANCELLED'))
+);
+
+CREATE TABLE outbound_order (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_number    VARCHAR(255) NOT NULL,
+    customer_id     BIGINT       NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    total_quantity  INTEGER      NOT NULL,
+    user_id         BIGINT       NOT NULL REFERENCES users (id),
+    created_at      TIMESTAMP(6) NOT NULL,
+    processed_at    TIMESTAMP(6),
+    updated_at      TIMESTAMP(6) NOT NULL,
+    created_by      VARCHAR(255) NOT NULL,
+    updated_by      VARCHAR(255) NOT NULL,
+    deleted         BOOLEAN      NOT NULL,
+    CONSTRAINT uk_outbound_order_order_number UNIQUE (order_number),
+    CONSTRAINT ck_outbound_order_status CHECK (status IN ('PENDING', 'PROCESSING', 'COMPLETED', 'CANCELLED'))
+);
+
+CREATE TABLE log (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    action       VARCHAR(255) NOT NULL,
+    entity_type  VARCHAR(255) NOT NULL,
+    entity_id    BIGINT       NOT NULL,
+    user_id      BIGINT       NOT NULL REFERENCES users (id),
+    timestamp    TIMESTAMP(6) NOT NULL,
+    details      TEXT,
+    created_by   VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE refresh_token (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token        VARCHAR(500) NOT NULL,
+    user_id      BIGINT       NOT NULL REFERENCES users (id),
+    expiry_date  TIMESTAMP(6) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    revoked      BOOLEAN      NOT NULL,
+    CONSTRAINT uk_refresh_token_token UNIQUE (token)
+);
@@ -0,0 +1,2 @@
+-- 무상태 인증용 사용자 보안 버전 (권한 변경/삭제 시 증가)
+ALTER TABLE users ADD COLUMN security_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- 리프레시 토큰 원문(VARCHAR 500) 대신 SHA-256 다이제스트(32바이트)로 저장/조회
+ALTER TABLE refresh_token ADD COLUMN token_hash BYTEA;
+
+-- 기존 토큰은 원문의 다이제스트로 변환 (애플리케이션의 RefreshToken.hash 와 동일: UTF-8 바이트의 SHA-256)
+UPDATE refresh_token SET token_hash = sha256(convert_to(token, 'UTF8'));
+
+ALTER TABLE refresh_token ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_token ADD CONSTRAINT uk_refresh_token_token_hash UNIQUE (token_hash);
+
+-- 원문 토큰 컬럼 제거 (유니크 제약도 함께 삭제됨 - baseline 처리된 DB 는 제약 이름이 Hibernate 자동 생성 이름이므로 이름으로 삭제하지 않음)
+ALTER TABLE refresh_token DROP COLUMN token;
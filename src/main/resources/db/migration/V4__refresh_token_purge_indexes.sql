@@ -0,0 +1,5 @@
+-- 만료/무효화 토큰 정리 작업(RefreshTokenPurgeJob)이 청크마다 전체 테이블을 스캔하지 않도록 인덱스 추가
+CREATE INDEX idx_refresh_token_expiry_date ON refresh_token (expiry_date);
+
+-- 무효화된 토큰만 대상으로 하는 부분 인덱스 (유효 토큰은 인덱스에 포함되지 않음)
+CREATE INDEX idx_refresh_token_revoked ON refresh_token (id) WHERE revoked = true;
@@ -0,0 +1,2 @@
+-- 사용자별 활성 세션 수 제한(revokeSessionsBeyondLimit)용 인덱스 - 무효화되지 않은 토큰만 포함
+CREATE INDEX idx_refresh_token_user_active ON refresh_token (user_id, created_at DESC) WHERE revoked = false;
@@ -0,0 +1,9 @@
+-- 만료 전에 무효화된 액세스 토큰(jti) - 토큰 만료 시각 이후 정리됨
+CREATE TABLE revoked_access_token (
+    jti         VARCHAR(36)  PRIMARY KEY,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    revoked_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_revoked_access_token_revoked_at ON revoked_access_token (revoked_at);
+CREATE INDEX idx_revoked_access_token_expires_at ON revoked_access_token (expires_at);
@@ -0,0 +1,21 @@
+-- 회원가입은 유니크 제약 위반을 제약 조건 이름으로 구분하므로 이름을 uk_users_email / uk_users_nickname 으로 통일
+-- (V1 이전에 Hibernate 가 생성한 DB 는 uk6dotkott2kjsp8vw4d0m25fb7 같은 자동 생성 이름을 가짐)
+DO $$
+DECLARE
+    target RECORD;
+BEGIN
+    FOR target IN
+        SELECT c.conname AS current_name,
+               CASE a.attname WHEN 'email' THEN 'uk_users_email' ELSE 'uk_users_nickname' END AS canonical_name
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.conrelid = 'users'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname IN ('email', 'nickname')
+    LOOP
+        IF target.current_name <> target.canonical_name THEN
+            EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO %I', target.current_name, target.canonical_name);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,5 @@
+-- 낙관적 잠금(@Version) 컬럼
+ALTER TABLE inventory ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE inbound_order ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE outbound_order ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,32 @@
+-- IDENTITY → 테이블별 시퀀스 (Hibernate pooled 최적화, INCREMENT BY = IdGeneration.ALLOCATION_SIZE)
+-- pooled 는 nextval 값을 확보 구간의 끝으로 사용하므로 시퀀스를 기존 최대 ID + 50 에서 시작시킨다.
+-- 두 생성기가 같은 ID를 만들지 않도록 기존 IDENTITY/DEFAULT 는 제거한다.
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE inventory_seq INCREMENT BY 50;
+SELECT setval('inventory_seq', COALESCE((SELECT MAX(id) FROM inventory), 0) + 50, false);
+ALTER TABLE inventory ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE inventory ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE inbound_order_seq INCREMENT BY 50;
+SELECT setval('inbound_order_seq', COALESCE((SELECT MAX(id) FROM inbound_order), 0) + 50, false);
+ALTER TABLE inbound_order ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE inbound_order ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE outbound_order_seq INCREMENT BY 50;
+SELECT setval('outbound_order_seq', COALESCE((SELECT MAX(id) FROM outbound_order), 0) + 50, false);
+ALTER TABLE outbound_order ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE outbound_order ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE log_seq INCREMENT BY 50;
+SELECT setval('log_seq', COALESCE((SELECT MAX(id) FROM log), 0) + 50, false);
+ALTER TABLE log ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE log ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE refresh_token_seq INCREMENT BY 50;
+SELECT setval('refresh_token_seq', COALESCE((SELECT MAX(id) FROM refresh_token), 0) + 50, false);
+ALTER TABLE refresh_token ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE refresh_token ALTER COLUMN id DROP DEFAULT;
@@ -349,4 +349,26 @@ class AuthControllerIntegrationTest {
                 .andExpect(jsonPath("$.validationErrors").isArray())
                 .andExpect(jsonPath("$.validationErrors", hasSize(greaterThan(0))));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("메트릭 엔드포인트는 인증 없이 접근 불가, 헬스 체크는 공개")
+    void actuator_PrometheusRequiresAuthentication() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("가입 가능 여부는 닉네임만 응답하고 이메일 가입 여부는 노출하지 않음")
+    void checkAvailability_NicknameOnly() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/auth/availability")
+                        .param("nickname", "freshname")
+                        .param("email", "test@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nicknameAvailable").value(true))
+                .andExpect(jsonPath("$.emailAvailable").doesNotExist());
+    }
+}
@@ -0,0 +1,81 @@
+package com.app.server.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * dev 프로필 없이(공통 설정의 규칙만으로) /api/auth/** 속도 제한이 적용되어야 한다.
+ * test 프로필은 속도 제한을 끄므로 이 클래스에서만 다시 켠다.
+ */
+@SpringBootTest(properties = "security.rate-limit.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("인증 API 속도 제한 테스트")
+class AuthRateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("같은 IP의 회원가입 요청이 한도를 넘으면 429 + Retry-After")
+    void signup_OverIpLimit_TooManyRequests() throws Exception {
+        // Given: 공통 설정의 signup per-ip 한도는 5회 (본문 검증 실패도 요청 수에 포함)
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/auth/signup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", not(emptyOrNullString())))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    @DisplayName("같은 이메일의 로그인 요청이 한도를 넘으면 429")
+    void signin_OverEmailLimit_TooManyRequests() throws Exception {
+        // Given: signin per-email 한도는 5회, 이메일 대소문자는 구분하지 않음
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/auth/signin")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\":\"limited@example.com\",\"password\":\"wrong-password\"}"))
+                    .andExpect(status().is4xxClientError())
+                    .andExpect(status().is(not(429)));
+        }
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"LIMITED@example.com\",\"password\":\"wrong-password\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("본문이 한도보다 크면 읽지 않고 413")
+    void signin_OversizedBody_PayloadTooLarge() throws Exception {
+        // Given
+        String body = "{\"email\":\"big@example.com\",\"password\":\"" + "x".repeat(9 * 1024) + "\"}";
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge());
+    }
+}
@@ -0,0 +1,96 @@
+package com.app.server.controller;
+
+import com.app.server.domain.RefreshToken;
+import com.app.server.domain.User;
+import com.app.server.domain.UserRole;
+import com.app.server.repository.RefreshTokenRepository;
+import com.app.server.repository.UserRepository;
+import com.app.server.support.ConcurrentTestRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 같은 리프레시 토큰으로 동시에 갱신을 요청하면 정확히 한 요청만 성공해야 한다.
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 @Transactional 을 사용하지 않는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("리프레시 토큰 동시 갱신 테스트")
+class RefreshTokenConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = new User();
+        testUser.setEmail("race@example.com");
+        testUser.setNickname("raceuser");
+        testUser.setPassword("encodedPassword");
+        testUser.setName("Race User");
+        testUser.setRole(UserRole.USER);
+        testUser.setDeleted(false);
+        testUser.setCreatedBy("system");
+        testUser.setUpdatedBy("system");
+        testUser = userRepository.save(testUser);
+
+        refreshTokenRepository.save(new RefreshToken("race-refresh-token", testUser.getId(), LocalDateTime.now().plusDays(7)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동일 토큰 동시 갱신 시 하나만 성공")
+    void refreshToken_ConcurrentRequests_OnlyOneSucceeds() throws Exception {
+        // Given
+        String body = objectMapper.writeValueAsString(new AuthController.RefreshTokenRequest("race-refresh-token"));
+
+        // When
+        List<Integer> statuses = ConcurrentTestRunner.run(THREADS, 1, thread ->
+                mockMvc.perform(post("/api/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn().getResponse().getStatus());
+
+        // Then
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status == 422).hasSize(THREADS - 1);
+        assertThat(refreshTokenRepository.countValidTokensByUserId(testUser.getId(), LocalDateTime.now())).isEqualTo(1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.app.server.controller;
+
+import com.app.server.domain.User;
+import com.app.server.domain.UserRole;
+import com.app.server.repository.RefreshTokenRepository;
+import com.app.server.repository.RevokedAccessTokenRepository;
+import com.app.server.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 무효화 목록 저장은 커밋 시점에 DB로 반영되므로 @Transactional 없이 실제 커밋으로 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("로그아웃 통합 테스트")
+class SignOutIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setEmail("signout@example.com");
+        user.setNickname("signoutuser");
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setName("Sign Out User");
+        user.setRole(UserRole.USER);
+        user.setDeleted(false);
+        user.setCreatedBy("system");
+        user.setUpdatedBy("system");
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        revokedAccessTokenRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 액세스 토큰으로 두 번 로그아웃해도 모두 성공")
+    void signOut_SameTokenTwice_BothSucceed() throws Exception {
+        // Given
+        String signInResponse = mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new AuthController.SignInRequest("signout@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String accessToken = objectMapper.readTree(signInResponse).get("accessToken").asText();
+        String body = objectMapper.writeValueAsString(new AuthController.SignOutRequest(accessToken));
+
+        // When & Then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/signout")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("로그아웃이 완료되었습니다."));
+        }
+        assertThat(revokedAccessTokenRepository.count()).isEqualTo(1);
+    }
+}
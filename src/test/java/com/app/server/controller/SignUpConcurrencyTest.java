@@ -0,0 +1,81 @@
+package com.app.server.controller;
+
+import com.app.server.repository.RefreshTokenRepository;
+import com.app.server.repository.UserRepository;
+import com.app.server.support.ConcurrentTestRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 같은 이메일로 동시에 회원가입하면 유니크 제약 조건에 의해 정확히 한 요청만 성공해야 한다.
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 @Transactional 을 사용하지 않는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("회원가입 동시성 테스트")
+class SignUpConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동일 이메일 동시 가입 시 하나만 성공")
+    void signUp_ConcurrentSameEmail_OnlyOneSucceeds() throws Exception {
+        // Given - 이메일은 같고 닉네임은 모두 다름
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            bodies.add(objectMapper.writeValueAsString(
+                    new AuthController.SignUpRequest("race@example.com", "password123", "racer" + i)));
+        }
+
+        // When
+        List<Integer> statuses = ConcurrentTestRunner.run(THREADS, 1, thread ->
+                mockMvc.perform(post("/api/auth/signup")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(bodies.get(thread)))
+                        .andReturn().getResponse().getStatus());
+
+        // Then
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status == 422).hasSize(THREADS - 1);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+}
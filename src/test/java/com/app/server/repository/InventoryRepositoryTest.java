@@ -0,0 +1,92 @@
+package com.app.server.repository;
+
+import com.app.server.domain.Inventory;
+import com.app.server.support.CursorPage;
+import com.app.server.support.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("InventoryRepository 통합 테스트")
+class InventoryRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    private List<Long> expectedOrder;
+
+    @BeforeEach
+    void setUp() {
+        // 수정 시각 4종류에 각 5건씩 (같은 시각끼리는 id 로 순서 결정) + 삭제된 재고 2건
+        List<Inventory> active = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            active.add(entityManager.persist(newInventory("PAGE-" + i, BASE.plusMinutes(i % 4), false)));
+        }
+        entityManager.persist(newInventory("PAGE-DELETED-1", BASE.plusMinutes(1), true));
+        entityManager.persist(newInventory("PAGE-DELETED-2", BASE.plusMinutes(3), true));
+        entityManager.flush();
+        entityManager.clear();
+
+        expectedOrder = active.stream()
+                .sorted(Comparator.comparing(Inventory::getUpdatedAt).thenComparing(Inventory::getId).reversed())
+                .map(Inventory::getId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("같은 수정 시각이 페이지 경계에 걸쳐도 중복/누락 없이 끝까지 조회")
+    void findActivePageAfter_TiedTimestamps_NoDuplicatesOrGaps() {
+        // When: 페이지 크기 3 (같은 시각 5건이 페이지 경계를 넘도록)
+        List<Long> walked = new ArrayList<>();
+        KeysetCursor cursor = null;
+        int pages = 0;
+        do {
+            List<Inventory> rows = cursor == null
+                    ? inventoryRepository.findActivePage(PageRequest.ofSize(4))
+                    : inventoryRepository.findActivePageAfter(cursor.timestamp(), cursor.id(), PageRequest.ofSize(4));
+            CursorPage<Inventory> page = CursorPage.of(rows, 3,
+                    inventory -> new KeysetCursor(inventory.getUpdatedAt(), inventory.getId()));
+            page.items().forEach(inventory -> walked.add(inventory.getId()));
+            cursor = page.nextCursor() == null ? null : KeysetCursor.decode(page.nextCursor());
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(walked).containsExactlyElementsOf(expectedOrder);
+        assertThat(pages).isEqualTo(7);
+    }
+
+    private static Inventory newInventory(String itemCode, LocalDateTime updatedAt, boolean deleted) {
+        Inventory inventory = new Inventory();
+        inventory.setItemName("페이지 테스트 상품 " + itemCode);
+        inventory.setItemCode(itemCode);
+        inventory.setQuantity(1);
+        inventory.setLocation("A-1");
+        inventory.setQrCode("QR-" + itemCode);
+        inventory.setDeleted(deleted);
+        inventory.setCreatedAt(updatedAt);
+        inventory.setUpdatedAt(updatedAt);
+        inventory.setCreatedBy("system");
+        inventory.setUpdatedBy("system");
+        return inventory;
+    }
+}
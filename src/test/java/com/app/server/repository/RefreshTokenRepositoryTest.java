@@ -0,0 +1,71 @@
+package com.app.server.repository;
+
+import com.app.server.domain.RefreshToken;
+import com.app.server.domain.User;
+import com.app.server.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("RefreshTokenRepository 통합 테스트")
+class RefreshTokenRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setEmail("purge@example.com");
+        testUser.setNickname("purgeuser");
+        testUser.setPassword("password");
+        testUser.setName("Purge User");
+        testUser.setRole(UserRole.USER);
+        testUser.setDeleted(false);
+        testUser.setCreatedBy("system");
+        testUser.setUpdatedBy("system");
+        entityManager.persist(testUser);
+    }
+
+    @Test
+    @DisplayName("만료/무효화 토큰을 limit 건씩 삭제하고 유효 토큰은 유지")
+    void deleteExpiredOrRevokedChunk_DeletesUpToLimit() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(new RefreshToken("expired-" + i, testUser.getId(), now.minusDays(1)));
+        }
+        RefreshToken revoked = new RefreshToken("revoked", testUser.getId(), now.plusDays(7));
+        revoked.revoke();
+        entityManager.persist(revoked);
+        entityManager.persist(new RefreshToken("valid", testUser.getId(), now.plusDays(7)));
+        entityManager.flush();
+
+        // When
+        int firstChunk = refreshTokenRepository.deleteExpiredOrRevokedChunk(now, 3);
+        int secondChunk = refreshTokenRepository.deleteExpiredOrRevokedChunk(now, 3);
+        int thirdChunk = refreshTokenRepository.deleteExpiredOrRevokedChunk(now, 3);
+
+        // Then
+        assertThat(firstChunk).isEqualTo(3);
+        assertThat(secondChunk).isEqualTo(1);
+        assertThat(thirdChunk).isZero();
+        assertThat(refreshTokenRepository.existsByTokenHash(RefreshToken.hash("valid"))).isTrue();
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+    }
+}
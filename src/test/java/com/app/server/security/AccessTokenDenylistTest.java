@@ -0,0 +1,125 @@
+package com.app.server.security;
+
+import com.app.server.domain.RevokedAccessToken;
+import com.app.server.repository.RevokedAccessTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccessTokenDenylist 단위 테스트")
+class AccessTokenDenylistTest {
+
+    @Mock
+    private RevokedAccessTokenRepository repository;
+
+    private AccessTokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        denylist = new AccessTokenDenylist(repository, 1_000, 0.0001);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 무효화는 커밋 후에만 메모리에 반영")
+    void revoke_InTransaction_AppliedAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        denylist.revoke("committed", inOneHour());
+
+        // Then
+        verify(repository).save(any(RevokedAccessToken.class));
+        assertThat(denylist.isRevoked("committed")).isFalse();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(denylist.isRevoked("committed")).isTrue();
+    }
+
+    @Test
+    @DisplayName("롤백된 무효화는 메모리에 반영되지 않음")
+    void revoke_RolledBack_NotApplied() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        denylist.revoke("rolled-back", inOneHour());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(denylist.isRevoked("rolled-back")).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 무효화된 토큰은 다시 저장하지 않음")
+    void revoke_AlreadyRevoked_Skipped() {
+        // Given
+        denylist.revoke("twice", inOneHour());
+        when(repository.existsById("other-node")).thenReturn(true);
+
+        // When
+        denylist.revoke("twice", inOneHour());
+        denylist.revoke("other-node", inOneHour());
+
+        // Then
+        verify(repository, times(1)).save(any(RevokedAccessToken.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 무효화한 토큰을 동기화로 반영")
+    void sync_AppliesRevocationsFromOtherNodes() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        when(repository.findActiveRevokedAfter(any(), any()))
+                .thenReturn(List.of(new RevokedAccessToken("other-node", expiresAt, LocalDateTime.now())));
+
+        // When
+        denylist.sync();
+
+        // Then
+        assertThat(denylist.isRevoked("other-node")).isTrue();
+        assertThat(denylist.isRevoked("unknown")).isFalse();
+    }
+
+    @Test
+    @DisplayName("정리 시 만료된 항목만 제거하고 필터를 다시 만들어도 남은 항목은 유지")
+    void purge_RemovesExpiredAndKeepsActive() {
+        // Given
+        denylist.revoke("expired", new Date(System.currentTimeMillis() - 1_000));
+        denylist.revoke("active", inOneHour());
+
+        // When
+        denylist.purge();
+
+        // Then
+        assertThat(denylist.isRevoked("expired")).isFalse();
+        assertThat(denylist.isRevoked("active")).isTrue();
+        verify(repository).deleteExpired(any(LocalDateTime.class));
+    }
+
+    private static Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3_600_000);
+    }
+}
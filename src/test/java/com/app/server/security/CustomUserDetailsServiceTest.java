@@ -0,0 +1,131 @@
+package com.app.server.security;
+
+import com.app.server.domain.User;
+import com.app.server.domain.UserRole;
+import com.app.server.repository.UserRepository;
+import com.app.server.security.CustomUserDetailsService.CustomUserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomUserDetailsService 캐시 테스트")
+class CustomUserDetailsServiceTest {
+
+    private static final String EMAIL = "cache@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CustomUserDetailsService userDetailsService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        // TTL 200ms, 부정 캐시 TTL 50ms
+        userDetailsService = new CustomUserDetailsService(userRepository, new SimpleMeterRegistry(),
+                true, 100, Duration.ofMillis(200), Duration.ofMillis(50));
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail(EMAIL);
+        testUser.setPassword("encodedPassword");
+        testUser.setRole(UserRole.USER);
+        testUser.setSecurityVersion(3L);
+        testUser.setDeleted(false);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 DB를 다시 조회하지 않고, 엔티티 변경이 캐시된 주체에 새지 않음")
+    void loadUserByUsername_Cached_ReturnsSnapshot() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+        UserDetails first = userDetailsService.loadUserByUsername(EMAIL);
+
+        // When
+        testUser.setRole(UserRole.ADMIN);
+        testUser.setPassword("changedPassword");
+        UserDetails second = userDetailsService.loadUserByUsername(EMAIL);
+
+        // Then
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        assertThat(second).isSameAs(first);
+        CustomUserPrincipal principal = (CustomUserPrincipal) second;
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getRole()).isEqualTo(UserRole.USER);
+        assertThat(principal.getPassword()).isEqualTo("encodedPassword");
+        assertThat(principal.getSecurityVersion()).isEqualTo(3L);
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 DB에서 다시 로드")
+    void loadUserByUsername_AfterTtl_Reloads() throws InterruptedException {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        // When
+        Thread.sleep(300);
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        // Then
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("없는 이메일과 삭제된 사용자는 짧은 TTL로 부정 캐시")
+    void loadUserByUsername_Missing_NegativelyCached() throws InterruptedException {
+        // Given
+        testUser.setDeleted(true);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+
+        // When & Then
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(EMAIL))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(EMAIL))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+
+        Thread.sleep(100);
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(EMAIL))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("UserChangedEvent 수신 시 해당 이메일만 무효화")
+    void onUserChanged_InvalidatesAffectedEmail() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmail("other@example.com")).thenReturn(Optional.empty());
+        userDetailsService.loadUserByUsername(EMAIL);
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("other@example.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        // When
+        testUser.setRole(UserRole.ADMIN);
+        userDetailsService.onUserChanged(UserChangedEvent.of(1L, "cacheuser", EMAIL));
+
+        // Then
+        CustomUserPrincipal reloaded = (CustomUserPrincipal) userDetailsService.loadUserByUsername(EMAIL);
+        assertThat(reloaded.getRole()).isEqualTo(UserRole.ADMIN);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("other@example.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(1)).findByEmail("other@example.com");
+    }
+}
@@ -0,0 +1,113 @@
+package com.app.server.security;
+
+import com.app.server.repository.UserRepository;
+import com.app.server.repository.UserRepository.SecurityState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SecurityVersionRegistry 단위 테스트")
+class SecurityVersionRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("처음 조회 시 DB에서 로드하고 refresh-interval 동안 다시 조회하지 않음")
+    void isCurrent_LoadsOnceWithinRefreshInterval() {
+        // Given
+        SecurityVersionRegistry registry = registry(Duration.ofMinutes(1));
+        when(userRepository.findSecurityStateById(1L)).thenReturn(Optional.of(state(3, false)));
+
+        // When & Then
+        assertThat(registry.isCurrent(1L, 3)).isTrue();
+        assertThat(registry.isCurrent(1L, 2)).isFalse();
+        verify(userRepository, times(1)).findSecurityStateById(1L);
+    }
+
+    @Test
+    @DisplayName("이벤트보다 오래된 DB 재조회 결과는 최신 버전을 되돌리지 않음")
+    void isCurrent_StaleReload_DoesNotOverwriteNewerEvent() throws InterruptedException {
+        // Given: DB 복제 지연 등으로 재조회가 이전 버전을 반환
+        SecurityVersionRegistry registry = registry(Duration.ofMillis(1));
+        when(userRepository.findSecurityStateById(1L)).thenReturn(Optional.of(state(3, false)));
+        registry.onUserSecurityChanged(new UserSecurityChangedEvent(1L, 4, true));
+
+        // When
+        Thread.sleep(5);
+
+        // Then
+        assertThat(registry.isCurrent(1L, 3)).isFalse();
+        assertThat(registry.isCurrent(1L, 4)).isTrue();
+        verify(userRepository, atLeastOnce()).findSecurityStateById(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 더 높은 버전은 재조회 시 반영")
+    void isCurrent_NewerReload_Applied() throws InterruptedException {
+        // Given
+        SecurityVersionRegistry registry = registry(Duration.ofMillis(1));
+        registry.onUserSecurityChanged(new UserSecurityChangedEvent(1L, 4, true));
+        when(userRepository.findSecurityStateById(1L)).thenReturn(Optional.of(state(5, false)));
+
+        // When
+        Thread.sleep(5);
+
+        // Then
+        assertThat(registry.isCurrent(1L, 4)).isFalse();
+        assertThat(registry.isCurrent(1L, 5)).isTrue();
+    }
+
+    @Test
+    @DisplayName("삭제 후 복원하면 같은 버전의 토큰이 다시 유효")
+    void onUserSecurityChanged_DeleteThenRestore() {
+        // Given
+        SecurityVersionRegistry registry = registry(Duration.ofMinutes(1));
+
+        // When & Then
+        registry.onUserSecurityChanged(new UserSecurityChangedEvent(1L, 5, false));
+        assertThat(registry.isCurrent(1L, 5)).isFalse();
+
+        registry.onUserSecurityChanged(new UserSecurityChangedEvent(1L, 5, true));
+        assertThat(registry.isCurrent(1L, 5)).isTrue();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자의 토큰은 거부")
+    void isCurrent_UnknownUser_Rejected() {
+        // Given
+        SecurityVersionRegistry registry = registry(Duration.ofMinutes(1));
+        when(userRepository.findSecurityStateById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(registry.isCurrent(99L, 0)).isFalse();
+    }
+
+    private SecurityVersionRegistry registry(Duration refreshInterval) {
+        return new SecurityVersionRegistry(userRepository, refreshInterval, 100, Duration.ofMinutes(10));
+    }
+
+    private static SecurityState state(long securityVersion, boolean deleted) {
+        return new SecurityState() {
+            @Override
+            public Long getSecurityVersion() {
+                return securityVersion;
+            }
+
+            @Override
+            public Boolean getDeleted() {
+                return deleted;
+            }
+        };
+    }
+}
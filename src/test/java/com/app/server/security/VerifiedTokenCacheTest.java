@@ -0,0 +1,123 @@
+package com.app.server.security;
+
+import com.app.server.domain.User;
+import com.app.server.domain.UserRole;
+import com.app.server.security.CustomUserDetailsService.CustomUserPrincipal;
+import com.app.server.security.VerifiedTokenCache.TokenDigest;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET =
+            "dGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3RodGVzdFNlY3JldEtleUZvckp1bml0VGVzdGluZ1dpdGgyNTZCaXRzTGVuZ3Ro";
+
+    @Test
+    @DisplayName("캐시 적중 시 서명을 다시 검증하지 않고 같은 클레임 반환")
+    void parseClaims_CacheHit_SkipsVerification() {
+        // Given
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600L, true, 100, new SimpleMeterRegistry());
+        String token = jwtUtil.generateToken(principal());
+        Claims first = jwtUtil.parseClaims(token);
+
+        // When
+        Claims second = jwtUtil.parseClaims(token);
+
+        // Then: 다시 파싱했다면 새 Claims 인스턴스가 만들어짐
+        assertThat(second).isSameAs(first);
+        assertThat(new JwtUtil(SECRET, 3600L).parseClaims(token)).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명을 변조한 토큰은 캐시된 클레임과 매칭되지 않고 검증에서 거부")
+    void parseClaims_TamperedSignature_Rejected() {
+        // Given
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600L, true, 100, new SimpleMeterRegistry());
+        String token = jwtUtil.generateToken(principal());
+        jwtUtil.parseClaims(token);
+
+        // When: 서명 부분 가운데 한 글자 변경 (마지막 글자는 패딩 비트만 바뀔 수 있어 피함)
+        int signatureStart = token.lastIndexOf('.') + 1;
+        int position = signatureStart + (token.length() - signatureStart) / 2;
+        char replacement = token.charAt(position) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, position) + replacement + token.substring(position + 1);
+
+        // Then
+        assertThat(VerifiedTokenCache.digest(tampered)).isNotEqualTo(VerifiedTokenCache.digest(token));
+        assertThat(VerifiedTokenCache.digest(token)).isEqualTo(VerifiedTokenCache.digest(token));
+        assertThatThrownBy(() -> jwtUtil.parseClaims(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("항목은 토큰의 exp 시점에 만료")
+    void get_AfterTokenExpiry_ReturnsNull() throws InterruptedException {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+        TokenDigest shortLived = VerifiedTokenCache.digest("short-lived");
+        TokenDigest longLived = VerifiedTokenCache.digest("long-lived");
+        cache.put(shortLived, claimsExpiringIn(1_500));
+        cache.put(longLived, claimsExpiringIn(3_600_000));
+        assertThat(cache.get(shortLived)).isNotNull();
+
+        // When
+        Thread.sleep(2_100);
+
+        // Then
+        assertThat(cache.get(shortLived)).isNull();
+        assertThat(cache.get(longLived)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("exp 가 없는 클레임은 캐시하지 않음")
+    void put_WithoutExpiration_NotCached() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+        TokenDigest digest = VerifiedTokenCache.digest("no-exp");
+
+        // When
+        cache.put(digest, Jwts.claims().subject("test@example.com").build());
+
+        // Then
+        assertThat(cache.get(digest)).isNull();
+    }
+
+    @Test
+    @DisplayName("항목 수는 max-size 를 넘지 않음")
+    void put_BeyondMaxSize_StaysBounded() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, new SimpleMeterRegistry());
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(VerifiedTokenCache.digest("token-" + i), claimsExpiringIn(3_600_000));
+        }
+
+        // Then
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(10);
+    }
+
+    private static CustomUserPrincipal principal() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("cache@example.com");
+        user.setPassword("");
+        user.setRole(UserRole.USER);
+        return new CustomUserPrincipal(user);
+    }
+
+    private static Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .subject("test@example.com")
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .build();
+    }
+}
@@ -5,22 +5,33 @@ import com.app.server.domain.RefreshToken;
 import com.app.server.domain.User;
 import com.app.server.domain.UserRole;
 import com.app.server.exception.DuplicateEmailException;
+import com.app.server.exception.DuplicateNicknameException;
 import com.app.server.exception.InvalidCredentialsException;
 import com.app.server.exception.TokenExpiredException;
 import com.app.server.mapper.UserMapper;
 import com.app.server.repository.RefreshTokenRepository;
 import com.app.server.repository.UserRepository;
+import com.app.server.security.AccessTokenDenylist;
 import com.app.server.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -46,6 +57,18 @@ class AuthServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @Mock
+    private SignUpAvailabilityIndex signUpAvailabilityIndex;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -94,6 +117,29 @@ class AuthServiceTest {
         verify(passwordEncoder).matches("password", "encodedPassword");
         verify(jwtUtil).generateToken(any());
         verify(refreshTokenRepository).save(any(RefreshToken.class));
+        assertThat(meterRegistry.get("auth.password").tag("op", "matches").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.db").tag("op", "find_user_by_email").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("BCrypt 비용 변경 시 로그인하며 비밀번호 재해싱")
+    void signIn_UpgradesPasswordEncoding() {
+        // Given
+        SignInRequest request = new SignInRequest("test@example.com", "password");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("rehashedPassword");
+        when(jwtUtil.generateToken(any())).thenReturn("access-token");
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
+
+        // When
+        authService.signIn(request);
+
+        // Then: 엔티티는 수정하지 않고(버전 증가 없음) 이전 해시 조건으로만 갱신
+        verify(userRepository).rehashPassword(testUser.getId(), "encodedPassword", "rehashedPassword");
+        verify(userRepository, never()).save(testUser);
+        assertThat(testUser.getPassword()).isEqualTo("encodedPassword");
     }
 
     @Test
@@ -125,6 +171,7 @@ class AuthServiceTest {
         
         verify(userRepository).findByEmail("test@example.com");
         verify(passwordEncoder).matches("wrongpassword", "encodedPassword");
+        assertThat(meterRegistry.get("auth.signin.failed").tag("reason", "bad_password").counter().count()).isEqualTo(1);
     }
 
     @Test
@@ -149,20 +196,18 @@ class AuthServiceTest {
     void signUp_Success() {
         // Given
         SignUpRequest request = new SignUpRequest("new@example.com", "password", "newuser");
-        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
-        when(userRepository.existsByNickname("newuser")).thenReturn(false);
         when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
 
         // When
         User result = authService.signUp(request);
 
         // Then
         assertThat(result).isNotNull();
-        verify(userRepository).existsByEmail("new@example.com");
-        verify(userRepository).existsByNickname("newuser");
+        verify(userRepository, never()).existsByEmail(any());
+        verify(userRepository, never()).existsByNickname(any());
         verify(passwordEncoder).encode("password");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -170,16 +215,15 @@ class AuthServiceTest {
     void signUp_DuplicateEmail_ThrowsException() {
         // Given
         SignUpRequest request = new SignUpRequest("duplicate@example.com", "password", "newuser");
-        when(userRepository.existsByEmail("duplicate@example.com")).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.UK_EMAIL));
 
         // When & Then
         assertThatThrownBy(() -> authService.signUp(request))
                 .isInstanceOf(DuplicateEmailException.class)
                 .hasMessageContaining("duplicate@example.com");
         
-        verify(userRepository).existsByEmail("duplicate@example.com");
-        verify(userRepository, never()).existsByNickname(any());
-        verify(userRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -187,17 +231,15 @@ class AuthServiceTest {
     void signUp_DuplicateNickname_ThrowsException() {
         // Given
         SignUpRequest request = new SignUpRequest("new@example.com", "password", "duplicatenick");
-        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
-        when(userRepository.existsByNickname("duplicatenick")).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.UK_NICKNAME));
 
         // When & Then
         assertThatThrownBy(() -> authService.signUp(request))
-                .isInstanceOf(DuplicateEmailException.class)
+                .isInstanceOf(DuplicateNicknameException.class)
                 .hasMessageContaining("duplicatenick");
         
-        verify(userRepository).existsByEmail("new@example.com");
-        verify(userRepository).existsByNickname("duplicatenick");
-        verify(userRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -205,14 +247,20 @@ class AuthServiceTest {
     void signOut_Success() {
         // Given
         String accessToken = "valid-access-token";
-        when(jwtUtil.getUsernameFromToken(accessToken)).thenReturn("test@example.com");
+        Date expiration = new Date(System.currentTimeMillis() + 3_600_000);
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn("access-token-jti");
+        when(claims.getExpiration()).thenReturn(expiration);
+        when(claims.getSubject()).thenReturn("test@example.com");
+        when(jwtUtil.parseClaims(accessToken)).thenReturn(claims);
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
 
         // When
         authService.signOut(accessToken);
 
         // Then
-        verify(jwtUtil).getUsernameFromToken(accessToken);
+        verify(jwtUtil).parseClaims(accessToken);
+        verify(accessTokenDenylist).revoke("access-token-jti", expiration);
         verify(userRepository).findByEmail("test@example.com");
         verify(refreshTokenRepository).revokeAllTokensByUserId(1L);
     }
@@ -222,7 +270,7 @@ class AuthServiceTest {
     void signOut_InvalidToken_NoException() {
         // Given
         String invalidToken = "invalid-token";
-        when(jwtUtil.getUsernameFromToken(invalidToken)).thenThrow(new RuntimeException("Invalid token"));
+        when(jwtUtil.parseClaims(invalidToken)).thenThrow(new RuntimeException("Invalid token"));
 
         // When & Then
         assertThatCode(() -> authService.signOut(invalidToken))
@@ -234,8 +282,8 @@ class AuthServiceTest {
     void refreshToken_Success() {
         // Given
         RefreshTokenRequest request = new RefreshTokenRequest("valid-refresh-token");
-        when(refreshTokenRepository.findByToken("valid-refresh-token")).thenReturn(Optional.of(testRefreshToken));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(refreshTokenRepository.revokeIfValid(aryEq(RefreshToken.hash("valid-refresh-token")), any(LocalDateTime.class))).thenReturn(1);
+        when(userRepository.findByRefreshTokenHash(aryEq(RefreshToken.hash("valid-refresh-token")))).thenReturn(Optional.of(testUser));
         when(jwtUtil.generateToken(any())).thenReturn("new-access-token");
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
 
@@ -248,10 +296,11 @@ class AuthServiceTest {
         assertThat(response.accessToken()).isEqualTo("new-access-token");
         assertThat(response.refreshToken()).isNotNull();
         
-        verify(refreshTokenRepository).findByToken("valid-refresh-token");
-        verify(userRepository).findById(1L);
+        verify(refreshTokenRepository).revokeIfValid(aryEq(RefreshToken.hash("valid-refresh-token")), any(LocalDateTime.class));
+        verify(refreshTokenRepository, never()).findByTokenHash(any());
+        verify(userRepository).findByRefreshTokenHash(aryEq(RefreshToken.hash("valid-refresh-token")));
         verify(jwtUtil).generateToken(any());
-        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class)); // 기존 토큰 무효화 + 새 토큰 저장
+        verify(refreshTokenRepository).save(any(RefreshToken.class)); // 조건부 UPDATE로 무효화 + 새 토큰 저장
     }
 
     @Test
@@ -259,14 +308,16 @@ class AuthServiceTest {
     void refreshToken_TokenNotFound_ThrowsException() {
         // Given
         RefreshTokenRequest request = new RefreshTokenRequest("nonexistent-token");
-        when(refreshTokenRepository.findByToken("nonexistent-token")).thenReturn(Optional.empty());
+        when(refreshTokenRepository.revokeIfValid(aryEq(RefreshToken.hash("nonexistent-token")), any(LocalDateTime.class))).thenReturn(0);
+        when(refreshTokenRepository.findByTokenHash(aryEq(RefreshToken.hash("nonexistent-token")))).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> authService.refreshToken(request))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessageContaining("유효하지 않은 리프레시 토큰입니다");
         
-        verify(refreshTokenRepository).findByToken("nonexistent-token");
+        verify(refreshTokenRepository).findByTokenHash(aryEq(RefreshToken.hash("nonexistent-token")));
+        verify(refreshTokenRepository, never()).save(any());
     }
 
     @Test
@@ -275,13 +326,32 @@ class AuthServiceTest {
         // Given
         RefreshToken expiredToken = new RefreshToken("expired-token", 1L, LocalDateTime.now().minusDays(1));
         RefreshTokenRequest request = new RefreshTokenRequest("expired-token");
-        when(refreshTokenRepository.findByToken("expired-token")).thenReturn(Optional.of(expiredToken));
+        when(refreshTokenRepository.revokeIfValid(aryEq(RefreshToken.hash("expired-token")), any(LocalDateTime.class))).thenReturn(0);
+        when(refreshTokenRepository.findByTokenHash(aryEq(RefreshToken.hash("expired-token")))).thenReturn(Optional.of(expiredToken));
 
         // When & Then
         assertThatThrownBy(() -> authService.refreshToken(request))
                 .isInstanceOf(TokenExpiredException.class);
         
-        verify(refreshTokenRepository).findByToken("expired-token");
+        verify(refreshTokenRepository).findByTokenHash(aryEq(RefreshToken.hash("expired-token")));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 생성 시 세션 수 제한 초과분 무효화")
+    void generateRefreshToken_RevokesSessionsBeyondLimit() {
+        // Given
+        ReflectionTestUtils.setField(authService, "maxSessionsPerUser", 5);
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testRefreshToken);
+
+        // When
+        String refreshToken = authService.generateRefreshToken(testUser);
+
+        // Then
+        assertThat(refreshToken).isNotNull();
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(refreshTokenRepository).revokeSessionsBeyondLimit(eq(1L), eq(5), any(LocalDateTime.class));
+        verify(refreshTokenRepository, never()).findValidTokensByUserId(any(), any());
     }
 
     @Test
@@ -317,42 +387,49 @@ class AuthServiceTest {
     @DisplayName("토큰 유효성 검증 - 유효한 토큰")
     void validateToken_ValidToken_ReturnsTrue() {
         // Given
-        when(jwtUtil.isTokenExpired("valid-token")).thenReturn(false);
+        Claims claims = mock(Claims.class);
+        when(jwtUtil.parseClaims("valid-token")).thenReturn(claims);
+        when(jwtUtil.isTokenExpired(claims)).thenReturn(false);
 
         // When
         boolean isValid = authService.validateToken("valid-token");
 
         // Then
         assertThat(isValid).isTrue();
-        verify(jwtUtil).isTokenExpired("valid-token");
+        verify(jwtUtil).parseClaims("valid-token");
+        verify(jwtUtil).isTokenExpired(claims);
     }
 
     @Test
     @DisplayName("토큰 유효성 검증 - 만료된 토큰")
     void validateToken_ExpiredToken_ReturnsFalse() {
         // Given
-        when(jwtUtil.isTokenExpired("expired-token")).thenReturn(true);
+        Claims claims = mock(Claims.class);
+        when(jwtUtil.parseClaims("expired-token")).thenReturn(claims);
+        when(jwtUtil.isTokenExpired(claims)).thenReturn(true);
 
         // When
         boolean isValid = authService.validateToken("expired-token");
 
         // Then
         assertThat(isValid).isFalse();
-        verify(jwtUtil).isTokenExpired("expired-token");
+        verify(jwtUtil).parseClaims("expired-token");
+        verify(jwtUtil).isTokenExpired(claims);
     }
 
     @Test
     @DisplayName("토큰 유효성 검증 - 유효하지 않은 토큰")
     void validateToken_InvalidToken_ReturnsFalse() {
         // Given
-        when(jwtUtil.isTokenExpired("invalid-token")).thenThrow(new RuntimeException("Invalid token"));
+        when(jwtUtil.parseClaims("invalid-token")).thenThrow(new RuntimeException("Invalid token"));
 
         // When
         boolean isValid = authService.validateToken("invalid-token");
 
         // Then
         assertThat(isValid).isFalse();
-        verify(jwtUtil).isTokenExpired("invalid-token");
+        verify(jwtUtil).parseClaims("invalid-token");
+        verify(jwtUtil, never()).isTokenExpired(any(Claims.class));
     }
 
     @Test
@@ -368,4 +445,10 @@ class AuthServiceTest {
         assertThat(email).isEqualTo("test@example.com");
         verify(jwtUtil).getUsernameFromToken("valid-token");
     }
-}
\ No newline at end of file
+
+    // 유니크 제약 조건 위반 시 Spring이 변환하는 예외 형태
+    private DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), constraintName));
+    }
+}
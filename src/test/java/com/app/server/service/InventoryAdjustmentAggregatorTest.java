@@ -0,0 +1,119 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.exception.BadRequestException;
+import com.app.server.exception.ResourceNotFoundException;
+import com.app.server.support.ConcurrentTestRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 집계를 켠 상태에서 동시 조정이 합산 반영되어도 개별 조정과 같은 결과가 나와야 한다.
+ * 응답을 받은 시점에는 해당 조정이 이미 커밋되어 있어야 한다.
+ */
+@SpringBootTest(properties = {
+        "inventory.adjustment-aggregation.enabled=true",
+        "inventory.adjustment-aggregation.flush-interval=5ms",
+        "inventory.adjustment-aggregation.max-batch-ops=8"
+})
+@DisplayName("재고 조정 집계기 테스트")
+class InventoryAdjustmentAggregatorTest extends InventoryIntegrationTestSupport {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private InventoryAdjustmentAggregator aggregator;
+
+    private Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = inventoryRepository.save(newInventory("HOT-001", 10));
+    }
+
+    @Test
+    @DisplayName("동시 입고 조정이 모두 반영되고 응답 시점에 커밋되어 있음")
+    void adjustQuantity_ConcurrentIncrements_AllApplied() throws Exception {
+        // When
+        List<Integer> observed = runConcurrently(THREADS * 10, 1);
+
+        // Then
+        assertThat(observed).doesNotContainNull();
+        assertThat(observed).allSatisfy(quantity -> assertThat(quantity).isGreaterThan(10));
+        assertThat(inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity())
+                .isEqualTo(10 + THREADS * 10);
+    }
+
+    @Test
+    @DisplayName("동시 출고 조정 시 재고 수량만큼만 성공하고 음수가 되지 않음")
+    void adjustQuantity_ConcurrentDecrements_NeverBelowZero() throws Exception {
+        // When
+        List<Integer> observed = runConcurrently(THREADS * 2, -1);
+
+        // Then
+        assertThat(observed).filteredOn(quantity -> quantity != null).hasSize(10);
+        assertThat(inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("합계가 int 범위를 넘는 동시 조정도 모두 응답을 받음")
+    void adjustQuantity_OverflowingSum_EveryCallerCompletes() throws Exception {
+        // Given
+        List<CompletableFuture<Inventory>> calls = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            calls.add(CompletableFuture.supplyAsync(() -> aggregator.adjustQuantity(inventory.getId(), 2_000_000_000)));
+        }
+
+        // When
+        long succeeded = 0;
+        List<Throwable> failures = new ArrayList<>();
+        for (CompletableFuture<Inventory> call : calls) {
+            try {
+                call.get(10, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+
+        // Then: 두 번째 조정은 수량 상한을 넘어 400으로 거절 (DB 오버플로 예외가 아님)
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(failures).singleElement().isInstanceOf(BadRequestException.class);
+        assertThat(inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity())
+                .isEqualTo(2_000_000_010);
+    }
+
+    @Test
+    @DisplayName("없는 재고 ID의 누산기는 실패 후 제거")
+    void adjustQuantity_UnknownId_NotTracked() {
+        // Given
+        Long unknownId = inventory.getId() + 1_000_000;
+
+        // When & Then
+        assertThatThrownBy(() -> aggregator.adjustQuantity(unknownId, 1))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(aggregator.isTracking(unknownId)).isFalse();
+    }
+
+    // 조정 결과 수량 목록 반환, 재고 부족으로 거절된 조정은 null
+    private List<Integer> runConcurrently(int adjustments, int delta) throws Exception {
+        return ConcurrentTestRunner.run(THREADS, adjustments / THREADS, thread -> {
+            try {
+                return aggregator.adjustQuantity(inventory.getId(), delta).getQuantity();
+            } catch (BadRequestException e) {
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.exception.BadRequestException;
+import com.app.server.support.ConcurrentTestRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 재고를 동시에 조정해도 갱신 손실이 없고 수량이 음수가 되지 않아야 한다.
+ */
+@DisplayName("재고 수량 동시 조정 테스트")
+class InventoryConcurrencyTest extends InventoryIntegrationTestSupport {
+
+    private static final int THREADS = 16;
+    private static final int ADJUSTMENTS_PER_THREAD = 25;
+
+    private Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = inventoryRepository.save(newInventory("RACE-001", 10));
+    }
+
+    @Test
+    @DisplayName("동시 입고 조정 시 모든 증가분이 반영됨")
+    void adjustQuantity_ConcurrentIncrements_NoLostUpdates() throws Exception {
+        // When
+        List<Boolean> results = runConcurrently(THREADS * ADJUSTMENTS_PER_THREAD, 1);
+
+        // Then
+        assertThat(results).containsOnly(true);
+        assertThat(inventoryService.findInventoryById(inventory.getId()).getQuantity())
+                .isEqualTo(10 + THREADS * ADJUSTMENTS_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("동시 출고 조정 시 재고 수량만큼만 성공하고 음수가 되지 않음")
+    void adjustQuantity_ConcurrentDecrements_NeverBelowZero() throws Exception {
+        // When
+        List<Boolean> results = runConcurrently(THREADS * 2, -1);
+
+        // Then
+        assertThat(results).filteredOn(success -> success).hasSize(10);
+        assertThat(inventoryService.findInventoryById(inventory.getId()).getQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("수량 상한을 넘는 입고 조정은 400으로 거절되고 수량은 그대로")
+    void adjustQuantity_Overflow_Rejected() {
+        // When & Then
+        assertThatThrownBy(() -> inventoryService.adjustQuantity(inventory.getId(), Integer.MAX_VALUE))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("exceed the maximum");
+        assertThatThrownBy(() -> inventoryService.adjustQuantity(inventory.getId(), Integer.MIN_VALUE))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Insufficient");
+        assertThat(inventoryService.findInventoryById(inventory.getId()).getQuantity()).isEqualTo(10);
+    }
+
+    // 성공 여부 목록 반환, 재고 부족으로 거절된 조정은 false
+    private List<Boolean> runConcurrently(int adjustments, int delta) throws Exception {
+        return ConcurrentTestRunner.run(THREADS, adjustments / THREADS, thread -> {
+            try {
+                inventoryService.adjustQuantity(inventory.getId(), delta);
+                return true;
+            } catch (BadRequestException e) {
+                return false;
+            }
+        });
+    }
+}
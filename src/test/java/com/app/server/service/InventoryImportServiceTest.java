@@ -0,0 +1,82 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 청크 크기를 2로 줄여 여러 청크에 걸친 커밋과 행별 오류 보고를 확인한다.
+ */
+@SpringBootTest(properties = "inventory.import.chunk-size=2")
+@DisplayName("재고 대량 등록 테스트")
+class InventoryImportServiceTest extends InventoryIntegrationTestSupport {
+
+    @Autowired
+    private InventoryImportService inventoryImportService;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.save(newInventory("EXIST-001", 1));
+    }
+
+    @Test
+    @DisplayName("CSV 등록 시 유효한 행만 저장하고 행별 오류 보고")
+    void importInventories_Csv_ReportsRowErrors() throws Exception {
+        // Given
+        String csv = """
+                itemCode,itemName,quantity,location,qrCode
+                NEW-001,"상품, 하나",10,A-2,QR-NEW-001
+                EXIST-001,중복 상품,5,A-3,QR-DUP
+                NEW-002,상품 둘,-1,A-4,QR-NEW-002
+                NEW-003,상품 셋,abc,A-5,QR-NEW-003
+                NEW-001,파일 내 중복,3,A-6,QR-NEW-001-DUP
+                NEW-004,상품 넷,7,A-7,QR-NEW-004
+                """;
+
+        // When
+        Inventory.ImportResponse response = inventoryImportService.importInventories(stream(csv), InventoryImportService.Format.CSV);
+
+        // Then
+        assertThat(response.receivedRows()).isEqualTo(6);
+        assertThat(response.importedRows()).isEqualTo(2);
+        assertThat(response.failedRows()).isEqualTo(4);
+        assertThat(response.errors()).extracting(Inventory.ImportError::line).containsExactlyInAnyOrder(3L, 4L, 5L, 6L);
+        assertThat(inventoryRepository.findByItemCode("NEW-001")).get()
+                .extracting(Inventory::getItemName).isEqualTo("상품, 하나");
+        assertThat(inventoryRepository.findByItemCode("NEW-004")).isPresent();
+    }
+
+    @Test
+    @DisplayName("NDJSON 등록")
+    void importInventories_Ndjson_Success() throws Exception {
+        // Given
+        String ndjson = """
+                {"itemName":"상품 하나","itemCode":"JSON-001","quantity":1,"location":"B-1","qrCode":"QR-JSON-001"}
+                {"itemName":"상품 둘","itemCode":"JSON-002","quantity":2,"location":"B-2","qrCode":"QR-JSON-002"}
+                {"itemName":
+                {"itemName":"상품 셋","itemCode":"JSON-003","quantity":3,"location":"B-3","qrCode":"QR-JSON-003"}
+                """;
+
+        // When
+        Inventory.ImportResponse response = inventoryImportService.importInventories(stream(ndjson), InventoryImportService.Format.NDJSON);
+
+        // Then
+        assertThat(response.importedRows()).isEqualTo(3);
+        assertThat(response.failedRows()).isEqualTo(1);
+        assertThat(response.errors()).singleElement().extracting(Inventory.ImportError::line).isEqualTo(3L);
+        assertThat(inventoryRepository.count()).isEqualTo(4);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,57 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.repository.InventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 커밋된 재고 데이터로 검증하는 통합 테스트의 공통 설정
+ *
+ * 커밋 후 이벤트, 별도 트랜잭션의 결과를 확인해야 하므로 @Transactional 롤백 대신 매 테스트 전후로 재고를 지운다.
+ * 메모리 색인/카운터를 쓰는 테스트는 resetDerivedState 를 재정의해 정리 후 DB와 다시 맞춘다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+abstract class InventoryIntegrationTestSupport {
+
+    @Autowired
+    protected InventoryService inventoryService;
+
+    @Autowired
+    protected InventoryRepository inventoryRepository;
+
+    @BeforeEach
+    void deleteInventoriesBefore() {
+        inventoryRepository.deleteAll();
+        resetDerivedState();
+    }
+
+    @AfterEach
+    void deleteInventoriesAfter() {
+        inventoryRepository.deleteAll();
+        resetDerivedState();
+    }
+
+    protected void resetDerivedState() {
+    }
+
+    // 위치 A-1, QR 코드 "QR-" + 상품 코드
+    protected static Inventory newInventory(String itemCode, int quantity) {
+        return newInventory(itemCode, quantity, "A-1", Inventory.DEFAULT_REORDER_POINT);
+    }
+
+    protected static Inventory newInventory(String itemCode, int quantity, String location, int reorderPoint) {
+        Inventory inventory = new Inventory();
+        inventory.setItemName("테스트 상품 " + itemCode);
+        inventory.setItemCode(itemCode);
+        inventory.setQuantity(quantity);
+        inventory.setReorderPoint(reorderPoint);
+        inventory.setLocation(location);
+        inventory.setQrCode("QR-" + itemCode);
+        return inventory;
+    }
+}
@@ -0,0 +1,70 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 상품별 재주문 기준을 넘나드는 변경이 커밋 후 저재고 색인과 이벤트에 반영되어야 한다.
+ */
+@RecordApplicationEvents
+@DisplayName("저재고 색인 테스트")
+class InventoryLowStockIndexTest extends InventoryIntegrationTestSupport {
+
+    @Autowired
+    private InventoryLowStockIndex lowStockIndex;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Override
+    protected void resetDerivedState() {
+        lowStockIndex.reconcile();
+    }
+
+    @Test
+    @DisplayName("재주문 기준 이하로 내려간 상품만 부족분 큰 순으로 조회")
+    void findLowStockItems_OrderedByShortfall() {
+        // Given
+        Inventory bolts = inventoryService.saveInventory(newInventory("LOW-001", 50, "A-1", 20));
+        Inventory nuts = inventoryService.saveInventory(newInventory("LOW-002", 50, "A-1", 40));
+        inventoryService.saveInventory(newInventory("LOW-003", 50, "A-1", 5));
+
+        // When
+        inventoryService.adjustQuantity(bolts.getId(), -45);
+        inventoryService.updateQuantity(nuts.getId(), 30);
+
+        // Then
+        assertThat(inventoryService.findLowStockItems())
+                .extracting(Inventory::getItemCode)
+                .containsExactly("LOW-001", "LOW-002");
+        assertThat(events.stream(InventoryThresholdCrossedEvent.class))
+                .extracting(InventoryThresholdCrossedEvent::inventoryId, InventoryThresholdCrossedEvent::lowStock)
+                .containsExactly(
+                        tuple(bolts.getId(), true),
+                        tuple(nuts.getId(), true));
+    }
+
+    @Test
+    @DisplayName("보충되면 색인에서 빠지고 해제 이벤트 발행")
+    void adjustQuantity_Replenished_ClearsLowStock() {
+        // Given
+        Inventory inventory = inventoryService.saveInventory(newInventory("LOW-010", 5, "A-1", 10));
+        assertThat(lowStockIndex.lowStockIds()).containsExactly(inventory.getId());
+
+        // When
+        inventoryService.adjustQuantity(inventory.getId(), 20);
+
+        // Then
+        assertThat(lowStockIndex.lowStockIds()).isEmpty();
+        assertThat(events.stream(InventoryThresholdCrossedEvent.class))
+                .extracting(InventoryThresholdCrossedEvent::lowStock)
+                .containsExactly(true, false);
+    }
+}
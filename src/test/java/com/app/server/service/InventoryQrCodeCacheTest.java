@@ -0,0 +1,73 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QR 스캔 캐시는 적중 시 DB 를 읽지 않고, 서비스를 통한 변경은 커밋 후 바로 반영되어야 한다.
+ */
+@DisplayName("QR 스캔 캐시 테스트")
+class InventoryQrCodeCacheTest extends InventoryIntegrationTestSupport {
+
+    @Autowired
+    private InventoryQrCodeCache qrCodeCache;
+
+    @Test
+    @DisplayName("캐시된 응답을 반환하고, 수량 조정/삭제 후에는 새 값으로 조회")
+    void scan_CachedUntilInventoryChanged() {
+        // Given
+        Inventory inventory = inventoryService.saveInventory(newInventory("SCAN-001", 10));
+        assertThat(qrCodeCache.scan("QR-SCAN-001")).get()
+                .extracting(Inventory.Response::quantity).isEqualTo(10);
+
+        // When: 이벤트 없이 DB 만 바꾸면 캐시된 값 유지
+        Inventory stored = inventoryRepository.findById(inventory.getId()).orElseThrow();
+        stored.setQuantity(99);
+        inventoryRepository.save(stored);
+
+        // Then
+        assertThat(qrCodeCache.scan("QR-SCAN-001")).get()
+                .extracting(Inventory.Response::quantity).isEqualTo(10);
+
+        // When & Then: 서비스를 통한 변경은 커밋 후 무효화
+        inventoryService.adjustQuantity(inventory.getId(), -9);
+        assertThat(qrCodeCache.scan("QR-SCAN-001")).get()
+                .extracting(Inventory.Response::quantity).isEqualTo(90);
+
+        inventoryService.deleteInventory(inventory.getId());
+        assertThat(qrCodeCache.scan("QR-SCAN-001")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 QR 코드로 조회한 뒤 등록하면 바로 조회됨")
+    void scan_NegativeEntryInvalidatedOnCreate() {
+        // Given
+        assertThat(qrCodeCache.scan("QR-SCAN-002")).isEmpty();
+
+        // When
+        inventoryService.saveInventory(newInventory("SCAN-002", 5));
+
+        // Then
+        assertThat(qrCodeCache.scan("QR-SCAN-002")).get()
+                .extracting(Inventory.Response::itemCode).isEqualTo("SCAN-002");
+    }
+
+    @Test
+    @DisplayName("중복 QR 코드 등록 실패")
+    void saveInventory_DuplicateQrCode_Fail() {
+        // Given
+        inventoryService.saveInventory(newInventory("SCAN-003", 1));
+        Inventory duplicate = newInventory("SCAN-004", 1);
+        duplicate.setQrCode("QR-SCAN-003");
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryService.saveInventory(duplicate))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("QR code already exists");
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import com.app.server.domain.Inventory.StockState;
+import com.app.server.repository.InventoryRepository;
+import com.app.server.repository.InventoryRepository.LocationStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("재고 통계 보정 단위 테스트")
+class InventoryStatsServiceReconcileTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    private InventoryStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new InventoryStatsService(inventoryRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("집계 쿼리 중에도 이벤트 반영이 막히지 않고, 그 변경은 보정 결과에 남음")
+    void reconcile_EventDuringAggregate_NotBlockedAndNotLost() {
+        // Given: 집계 쿼리가 실행되는 동안 다른 스레드에서 새 재고 커밋 이벤트가 반영됨
+        InventoryChangedEvent created = new InventoryChangedEvent(2L, "새 상품", "NEW-001", Set.of(),
+                null, new StockState("B-1", 5, Inventory.DEFAULT_REORDER_POINT));
+        when(inventoryRepository.aggregateActiveByLocation()).thenAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> statsService.onInventoryChanged(created)).get(5, TimeUnit.SECONDS);
+            return List.of(locationStats("A-1", 1, 20, 0));
+        });
+
+        // When
+        statsService.reconcile();
+
+        // Then
+        Inventory.StatsResponse stats = statsService.getStats();
+        assertThat(stats.activeSkus()).isEqualTo(2);
+        assertThat(stats.totalUnits()).isEqualTo(25);
+        assertThat(stats.unitsByLocation()).isEqualTo(Map.of("A-1", 20L, "B-1", 5L));
+    }
+
+    @Test
+    @DisplayName("보정 후 DB에 없는 위치는 통계에서 빠짐")
+    void reconcile_RemovedLocation_Dropped() {
+        // Given
+        statsService.onInventoryChanged(new InventoryChangedEvent(1L, "상품", "OLD-001", Set.of(),
+                null, new StockState("Z-9", 3, Inventory.DEFAULT_REORDER_POINT)));
+        when(inventoryRepository.aggregateActiveByLocation()).thenReturn(List.of(locationStats("A-1", 1, 20, 0)));
+
+        // When
+        statsService.reconcile();
+
+        // Then
+        Inventory.StatsResponse stats = statsService.getStats();
+        assertThat(stats.activeSkus()).isEqualTo(1);
+        assertThat(stats.unitsByLocation()).isEqualTo(Map.of("A-1", 20L));
+    }
+
+    private static LocationStats locationStats(String location, long skus, long units, long lowStock) {
+        return new LocationStats() {
+            @Override
+            public String getLocation() {
+                return location;
+            }
+
+            @Override
+            public Long getSkus() {
+                return skus;
+            }
+
+            @Override
+            public Long getUnits() {
+                return units;
+            }
+
+            @Override
+            public Long getLowStock() {
+                return lowStock;
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.app.server.service;
+
+import com.app.server.domain.Inventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 변경이 커밋 후 통계 카운터에 반영되고, DB 집계로 보정해도 값이 같아야 한다.
+ */
+@DisplayName("재고 통계 테스트")
+class InventoryStatsServiceTest extends InventoryIntegrationTestSupport {
+
+    @Autowired
+    private InventoryStatsService inventoryStatsService;
+
+    @Override
+    protected void resetDerivedState() {
+        inventoryStatsService.reconcile();
+    }
+
+    @Test
+    @DisplayName("등록/조정/수정/삭제가 카운터에 반영됨")
+    void mutations_UpdateCountersIncrementally() {
+        // Given
+        Inventory first = inventoryService.saveInventory(newInventory("STATS-001", 20, "A-1", Inventory.DEFAULT_REORDER_POINT));
+        Inventory second = inventoryService.saveInventory(newInventory("STATS-002", 5, "A-1", Inventory.DEFAULT_REORDER_POINT));
+        Inventory third = inventoryService.saveInventory(newInventory("STATS-003", 30, "B-1", Inventory.DEFAULT_REORDER_POINT));
+
+        // When
+        inventoryService.adjustQuantity(first.getId(), -15);
+        inventoryService.updateQuantity(second.getId(), 40);
+        inventoryService.deleteInventory(third.getId());
+
+        // Then
+        Inventory.StatsResponse stats = inventoryStatsService.getStats();
+        assertThat(stats.activeSkus()).isEqualTo(2);
+        assertThat(stats.totalUnits()).isEqualTo(45);
+        assertThat(stats.lowStockCount()).isEqualTo(1);
+        assertThat(stats.unitsByLocation()).containsExactlyEntriesOf(Map.of("A-1", 45L));
+    }
+
+    @Test
+    @DisplayName("DB 집계로 보정하면 이벤트 없이 바뀐 값도 맞춰짐")
+    void reconcile_CorrectsDrift() {
+        // Given: 이벤트를 거치지 않는 저장
+        inventoryService.saveInventory(newInventory("STATS-010", 8, "C-1", Inventory.DEFAULT_REORDER_POINT));
+        inventoryRepository.save(newInventory("STATS-011", 12, "D-1", Inventory.DEFAULT_REORDER_POINT));
+
+        // When
+        inventoryStatsService.reconcile();
+
+        // Then
+        Inventory.StatsResponse stats = inventoryStatsService.getStats();
+        assertThat(stats.activeSkus()).isEqualTo(2);
+        assertThat(stats.totalUnits()).isEqualTo(20);
+        assertThat(stats.lowStockCount()).isEqualTo(1);
+        assertThat(stats.unitsByLocation()).containsEntry("C-1", 8L).containsEntry("D-1", 12L);
+        assertThat(stats.reconciledAt()).isNotNull();
+    }
+}
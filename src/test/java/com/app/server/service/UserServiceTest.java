@@ -5,6 +5,7 @@ import com.app.server.domain.UserRole;
 import com.app.server.exception.BadRequestException;
 import com.app.server.exception.ResourceNotFoundException;
 import com.app.server.repository.UserRepository;
+import com.app.server.security.UserSecurityChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -29,6 +31,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -180,9 +185,11 @@ class UserServiceTest {
 
         // Then
         assertThat(result).isNotNull();
+        assertThat(testUser.getSecurityVersion()).isEqualTo(1L); // 역할 변경 → 보안 버전 증가
         verify(userRepository).findById(1L);
         verify(userRepository).existsByEmail("updated@example.com");
         verify(userRepository).save(any(User.class));
+        verify(eventPublisher).publishEvent(any(UserSecurityChangedEvent.class));
     }
 
     @Test
@@ -216,8 +223,11 @@ class UserServiceTest {
         userService.deleteUser(1L);
 
         // Then
+        assertThat(testUser.isDeleted()).isTrue();
+        assertThat(testUser.getSecurityVersion()).isEqualTo(1L);
         verify(userRepository).findById(1L);
         verify(userRepository).save(any(User.class));
+        verify(eventPublisher).publishEvent(new UserSecurityChangedEvent(1L, 1L, false));
     }
 
     @Test
@@ -0,0 +1,62 @@
+package com.app.server.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시성 테스트용 실행기: 모든 스레드가 준비된 뒤 한꺼번에 출발시켜 경합을 최대화한다.
+ */
+public final class ConcurrentTestRunner {
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private ConcurrentTestRunner() {
+    }
+
+    @FunctionalInterface
+    public interface Task<T> {
+        T run(int thread) throws Exception;
+    }
+
+    /**
+     * @param threads 스레드 수
+     * @param runsPerThread 스레드마다 task 를 반복 실행할 횟수
+     * @param task 실행할 작업 (인자는 스레드 번호)
+     * @return 모든 실행 결과 (스레드 번호 순, 스레드 안에서는 실행 순)
+     */
+    public static <T> List<T> run(int threads, int runsPerThread, Task<T> task) throws Exception {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<T>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    List<T> outcomes = new ArrayList<>(runsPerThread);
+                    for (int i = 0; i < runsPerThread; i++) {
+                        outcomes.add(task.run(thread));
+                    }
+                    return outcomes;
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<List<T>> future : futures) {
+                results.addAll(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
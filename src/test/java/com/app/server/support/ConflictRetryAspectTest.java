@@ -0,0 +1,86 @@
+package com.app.server.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConflictRetryAspect 테스트")
+class ConflictRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictingService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ConflictingService());
+        factory.addAspect(new ConflictRetryAspect(3, Duration.ofMillis(1), Duration.ofMillis(5), meterRegistry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("충돌 후 재시도하여 성공")
+    void retry_SucceedsAfterConflicts() {
+        // Given
+        service.conflictsBeforeSuccess = 2;
+
+        // When
+        String result = service.update();
+
+        // Then
+        assertThat(result).isEqualTo("updated");
+        assertThat(service.attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("persistence.conflict.conflicts").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("persistence.conflict.exhausted").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 충돌 예외 전달")
+    void retry_ExhaustedAttempts_ThrowsConflict() {
+        // Given
+        service.conflictsBeforeSuccess = 10;
+
+        // When & Then
+        assertThatThrownBy(() -> service.update())
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(service.attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("persistence.conflict.exhausted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않음")
+    void retry_OtherException_NotRetried() {
+        // When & Then
+        assertThatThrownBy(() -> service.fail())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(service.attempts.get()).isEqualTo(1);
+    }
+
+    static class ConflictingService {
+
+        final AtomicInteger attempts = new AtomicInteger();
+        int conflictsBeforeSuccess;
+
+        @RetryOnConflict
+        public String update() {
+            if (attempts.incrementAndGet() <= conflictsBeforeSuccess) {
+                throw new OptimisticLockingFailureException("version mismatch");
+            }
+            return "updated";
+        }
+
+        @RetryOnConflict
+        public String fail() {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("not a conflict");
+        }
+    }
+}
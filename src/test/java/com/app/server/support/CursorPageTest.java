@@ -0,0 +1,70 @@
+package com.app.server.support;
+
+import com.app.server.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CursorPage / KeysetCursor 테스트")
+class CursorPageTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_000_000);
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩하면 같은 위치")
+    void cursor_EncodeDecode_RoundTrip() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(BASE, 42L);
+
+        // When
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 BadRequestException")
+    void cursor_Invalid_ThrowsBadRequest() {
+        // When & Then
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("size + 1 건이 조회되면 마지막 항목 위치를 다음 커서로 반환")
+    void of_MoreRowsThanSize_HasNextCursor() {
+        // Given
+        List<KeysetCursor> rows = List.of(
+                new KeysetCursor(BASE, 3L),
+                new KeysetCursor(BASE, 2L),
+                new KeysetCursor(BASE.minusSeconds(1), 1L));
+
+        // When
+        CursorPage<KeysetCursor> page = CursorPage.of(rows, 2, row -> row);
+
+        // Then
+        assertThat(page.items()).hasSize(2);
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(BASE, 2L));
+    }
+
+    @Test
+    @DisplayName("size 이하로 조회되면 마지막 페이지")
+    void of_RowsWithinSize_NoNextCursor() {
+        // Given
+        List<KeysetCursor> rows = List.of(new KeysetCursor(BASE, 1L));
+
+        // When
+        CursorPage<String> page = CursorPage.of(rows, 2, row -> row).map(row -> String.valueOf(row.id()));
+
+        // Then
+        assertThat(page.items()).containsExactly("1");
+        assertThat(page.nextCursor()).isNull();
+    }
+}
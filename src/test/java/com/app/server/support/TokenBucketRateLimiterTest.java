@@ -0,0 +1,73 @@
+package com.app.server.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenBucketRateLimiter 테스트")
+class TokenBucketRateLimiterTest {
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속 허용 후 거절, 키별로 독립")
+    void tryAcquire_BurstThenReject() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, Duration.ofMinutes(1), 100);
+
+        // When & Then
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+        assertThat(limiter.tryAcquire("b")).isTrue();
+        assertThat(limiter.retryAfterSeconds()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("토큰 하나가 채워지는 시간이 지나면 다시 허용")
+    void tryAcquire_RefillsOverTime() throws InterruptedException {
+        // Given: 토큰 하나당 100ms
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, Duration.ofMillis(200), 100);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        assertThat(limiter.tryAcquire("a")).isFalse();
+
+        // When
+        Thread.sleep(150);
+
+        // Then
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("추적 키 수 한도에 도달하면 신규 키는 추적하지 않고 허용 (fail-open)")
+    void tryAcquire_MaxKeysReached_FailOpen() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, Duration.ofMinutes(1), 1);
+        limiter.tryAcquire("a");
+
+        // When & Then
+        assertThat(limiter.tryAcquire("a")).isFalse();
+        assertThat(limiter.tryAcquire("b")).isTrue();
+        assertThat(limiter.tryAcquire("b")).isTrue();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷이 다시 가득 찬 키만 제거")
+    void evictIdle_RemovesRefilledKeys() throws InterruptedException {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, Duration.ofMillis(50), 100);
+        limiter.tryAcquire("idle");
+        Thread.sleep(80);
+        TokenBucketRateLimiter busy = new TokenBucketRateLimiter(1, Duration.ofMinutes(1), 100);
+        busy.tryAcquire("busy");
+
+        // When & Then
+        assertThat(limiter.evictIdle()).isZero();
+        assertThat(busy.evictIdle()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.app.server.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TrigramIndex 테스트")
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "Hex Bolt M8", "BOLT-008", "A-01-02");
+        index.put(2L, "Carriage Bolt", "CB-100", "B-03-01");
+        index.put(3L, "Wing Nut", "NUT-001", "A-01-03");
+        index.put(4L, "볼트 세트", "KR-BOLT", "C-02-01");
+    }
+
+    @Test
+    @DisplayName("부분 문자열 검색은 대소문자 무시, 점수순 정렬")
+    void search_Substring_RankedByScore() {
+        // When
+        var ids = index.search("bolt", 10);
+
+        // Then: 코드 접두사 > 단어 접두사(상품명) > 코드 부분 일치
+        assertThat(ids).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("상품 코드 완전 일치가 가장 먼저, limit 만큼만 반환")
+    void search_ExactCode_FirstAndLimited() {
+        // When & Then
+        assertThat(index.search("nut-001", 10)).containsExactly(3L);
+        assertThat(index.search("a-01", 1)).containsExactly(3L); // 점수가 같으면 상품명이 짧은 순
+    }
+
+    @Test
+    @DisplayName("1~2자 검색어는 필드 접두사만 일치")
+    void search_ShortQuery_PrefixOnly() {
+        // When & Then
+        assertThat(index.search("wi", 10)).containsExactly(3L);
+        assertThat(index.search("ut", 10)).isEmpty();
+        assertThat(index.search("볼트", 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제하면 이전 내용으로는 검색되지 않음")
+    void putAndRemove_ReplaceDocuments() {
+        // When
+        index.put(3L, "Lock Washer", "WSH-001", "A-01-03");
+        index.remove(1L);
+
+        // Then
+        assertThat(index.search("nut", 10)).isEmpty();
+        assertThat(index.search("washer", 10)).containsExactly(3L);
+        assertThat(index.search("bolt", 10)).containsExactly(2L, 4L);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.estimatedBytes()).isPositive();
+    }
+}